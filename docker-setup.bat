@@ -19,7 +19,7 @@ goto help
 :start
 echo 🚀 Starting University Course Management services...
 docker-compose up --build -d
-echo ✅ Services started! Visit: http://localhost:8080/api/test/public
+echo ✅ Services started! Visit: http://localhost:8080/actuator/health/readiness
 goto end
 
 :stop
@@ -60,7 +60,7 @@ echo 📊 Service Status:
 docker-compose ps
 echo.
 echo 🔍 Testing application...
-curl -s http://localhost:8080/api/test/public && echo ✅ App is running! || echo ❌ App is not responding
+curl -s http://localhost:8080/actuator/health/readiness && echo ✅ App is running! || echo ❌ App is not responding
 goto end
 
 :help
@@ -84,7 +84,7 @@ echo   docker-setup.bat clean
 echo.
 echo 🌐 URLs after starting:
 echo   - API: http://localhost:8080
-echo   - Health: http://localhost:8080/api/test/public  
+echo   - Health: http://localhost:8080/actuator/health/readiness  
 echo   - Database: localhost:3333
 echo.
 echo 👤 Default admin: admin/admin123
@@ -55,7 +55,7 @@ function Start-Services {
     Write-Host ""
     Write-Host "🌐 Application URLs:" -ForegroundColor Cyan
     Write-Host "  - API Base: http://localhost:8080"
-    Write-Host "  - Health Check: http://localhost:8080/api/test/public"
+    Write-Host "  - Health Check: http://localhost:8080/actuator/health/readiness"
     Write-Host "  - Database: localhost:3333"
     Write-Host ""
     Write-Host "👤 Default Admin Credentials:" -ForegroundColor Cyan
@@ -123,7 +123,7 @@ function Show-Status {
     Write-Host ""
     Write-Host "🔍 Quick Health Check:" -ForegroundColor Yellow
     try {
-        $response = Invoke-WebRequest -Uri "http://localhost:8080/api/test/public" -TimeoutSec 5
+        $response = Invoke-WebRequest -Uri "http://localhost:8080/actuator/health/readiness" -TimeoutSec 5
         Write-Host "✅ Application is responding: $($response.StatusCode)" -ForegroundColor Green
     }
     catch {
@@ -0,0 +1,100 @@
+package com.erp.universitycoursemanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A concurrency limit for one class of requests: at most {@code maxConcurrent} run at once, at most
+ * {@code maxQueued} more wait (for up to {@code maxWaitMs}), and anything beyond that is turned away at
+ * once. A class can therefore hold at most maxConcurrent + maxQueued request threads, and no more
+ * connections than it runs requests, however slow its requests get.
+ * <p>
+ * Meters, tagged {@code bulkhead=<name>}: {@code bulkhead.queue.time} (wait of admitted requests, zero
+ * when a permit was free), {@code bulkhead.rejected} (tagged {@code reason=queue_full|timeout}),
+ * {@code bulkhead.active} and {@code bulkhead.queued}.
+ */
+public class Bulkhead {
+
+    private static final ThreadLocal<Bulkhead> current = new ThreadLocal<>();
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Timer queueTime;
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueued, long maxWaitMs, MeterRegistry registry) {
+        if (maxConcurrent < 1 || maxQueued < 0 || maxWaitMs < 0)
+            throw new IllegalArgumentException("bulkhead " + name + ": need maxConcurrent >= 1, maxQueued >= 0, maxWaitMs >= 0");
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        Gauge.builder("bulkhead.active", this, b -> b.maxConcurrent - b.permits.availablePermits())
+                .tag("bulkhead", name).description("Requests running in the bulkhead").register(registry);
+        Gauge.builder("bulkhead.queued", queued, AtomicInteger::get)
+                .tag("bulkhead", name).description("Requests waiting for the bulkhead").register(registry);
+        this.queueTime = Timer.builder("bulkhead.queue.time").tag("bulkhead", name)
+                .description("Time admitted requests waited for the bulkhead").register(registry);
+        this.queueFull = rejected(registry, "queue_full");
+        this.timedOut = rejected(registry, "timeout");
+    }
+
+    private Counter rejected(MeterRegistry registry, String reason) {
+        return Counter.builder("bulkhead.rejected").tag("bulkhead", name).tag("reason", reason)
+                .description("Requests turned away by the bulkhead").register(registry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** The bulkhead the current request thread runs in, or null. */
+    public static Bulkhead current() {
+        return current.get();
+    }
+
+    /**
+     * Admits the calling thread, waiting if need be. Returns false when it was turned away; otherwise the
+     * caller must {@link #exit()} once done.
+     */
+    public boolean tryEnter() throws InterruptedException {
+        long start = System.nanoTime();
+        // the timed form honours fairness; plain tryAcquire() would barge ahead of the queued requests
+        if (!permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                queueFull.increment();
+                return false;
+            }
+            try {
+                if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                    timedOut.increment();
+                    return false;
+                }
+            } finally {
+                queued.decrementAndGet();
+            }
+        }
+        queueTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        current.set(this);
+        return true;
+    }
+
+    public void exit() {
+        current.remove();
+        permits.release();
+    }
+}
@@ -0,0 +1,86 @@
+package com.erp.universitycoursemanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * A connection pool of its own for the {@code auth} bulkhead, active only when
+ * {@code app.bulkhead.auth.pool.maximumPoolSize} is set. Sign-in keeps its connection while BCrypt runs
+ * (open-in-view), so a login burst would otherwise drain the pool that browsing and enrollment need.
+ * <p>
+ * The pool connects with the {@code spring.datasource.*} settings; any Hikari property can be set under
+ * {@code app.bulkhead.auth.pool}. Requests outside the auth bulkhead (and everything not running on a
+ * request thread) keep using the application's pool, including the replica routing when configured.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.bulkhead.auth.pool", name = "maximumPoolSize")
+public class BulkheadDataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor authPoolRouting(Environment env, ObjectProvider<DataSourceProperties> properties) {
+        return new AuthPoolRouting(env, properties);
+    }
+
+    /** Wraps {@code dataSource} before the other wrappers (slow-query profiling), so they see both pools. */
+    static final class AuthPoolRouting implements BeanPostProcessor, Ordered, AutoCloseable {
+        private final Environment env;
+        private final ObjectProvider<DataSourceProperties> properties;
+        private HikariDataSource authPool;
+
+        AuthPoolRouting(Environment env, ObjectProvider<DataSourceProperties> properties) {
+            this.env = env;
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource ds) || !beanName.equals("dataSource") || bean instanceof BulkheadRoutingDataSource)
+                return bean;
+            authPool = properties.getObject().initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            authPool.setPoolName(BulkheadFilter.AUTH);
+            Binder.get(env).bind("app.bulkhead.auth.pool", Bindable.ofInstance(authPool));
+            // not a bean (that would switch off Boot's own pool), so its hikaricp_* meters are bound here
+            authPool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(Metrics.globalRegistry));
+
+            BulkheadRoutingDataSource routing = new BulkheadRoutingDataSource();
+            routing.setTargetDataSources(Map.of(BulkheadFilter.AUTH, authPool));
+            routing.setDefaultTargetDataSource(ds);
+            routing.afterPropertiesSet();
+            return routing;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void close() {
+            if (authPool != null) authPool.close();
+        }
+    }
+
+    /** Routes by the {@link Bulkhead} of the current request thread; without a dedicated pool, the default. */
+    static final class BulkheadRoutingDataSource extends AbstractRoutingDataSource {
+        @Override
+        protected Object determineCurrentLookupKey() {
+            Bulkhead bulkhead = Bulkhead.current();
+            return bulkhead != null ? bulkhead.getName() : null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.erp.universitycoursemanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Keeps the three kinds of traffic that compete on registration day from starving each other: sign-in
+ * ({@code /api/auth/**}, BCrypt-bound), catalog browsing (GET {@code /api/courses/**} and
+ * {@code /api/students/**}) and enrollment writes (anything but GET on {@code /api/enrollments/**}).
+ * Each runs in its own {@link Bulkhead}, configured as app.bulkhead.&lt;auth|catalogReads|enrollmentWrites&gt;
+ * .maxConcurrent / .maxQueued / .maxWaitMs. Turned-away requests get 503 with Retry-After before security
+ * or the database is touched. Other requests are not limited.
+ * <p>
+ * Runs ahead of Spring Security, so even unauthenticated floods are bounded per class. Switched off with
+ * app.bulkhead.enabled=false, e.g. to measure the raw request threading.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    public static final String AUTH = "auth";
+    public static final String CATALOG_READS = "catalogReads";
+    public static final String ENROLLMENT_WRITES = "enrollmentWrites";
+
+    private final Bulkhead auth;
+    private final Bulkhead catalogReads;
+    private final Bulkhead enrollmentWrites;
+
+    public BulkheadFilter(Environment env, ObjectProvider<MeterRegistry> registry) {
+        MeterRegistry meters = registry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.auth = bulkhead(env, meters, AUTH, 16, 24, 2000);
+        this.catalogReads = bulkhead(env, meters, CATALOG_READS, 48, 48, 1000);
+        this.enrollmentWrites = bulkhead(env, meters, ENROLLMENT_WRITES, 8, 24, 2000);
+    }
+
+    private static Bulkhead bulkhead(Environment env, MeterRegistry meters, String name,
+                                     int maxConcurrent, int maxQueued, long maxWaitMs) {
+        String prefix = "app.bulkhead." + name + ".";
+        return new Bulkhead(name,
+                env.getProperty(prefix + "maxConcurrent", Integer.class, maxConcurrent),
+                env.getProperty(prefix + "maxQueued", Integer.class, maxQueued),
+                env.getProperty(prefix + "maxWaitMs", Long.class, maxWaitMs),
+                meters);
+    }
+
+    Bulkhead bulkhead(String name) {
+        return switch (name) {
+            case AUTH -> auth;
+            case CATALOG_READS -> catalogReads;
+            case ENROLLMENT_WRITES -> enrollmentWrites;
+            default -> throw new IllegalArgumentException("Unknown bulkhead: " + name);
+        };
+    }
+
+    Bulkhead classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean get = HttpMethod.GET.matches(request.getMethod());
+        if (path.startsWith("/api/auth/")) return auth;
+        if (get && (under(path, "/api/courses") || under(path, "/api/students"))) return catalogReads;
+        if (!get && under(path, "/api/enrollments")) return enrollmentWrites;
+        return null;
+    }
+
+    private static boolean under(String path, String prefix) {
+        return path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Bulkhead bulkhead = classify(request);
+        if (bulkhead == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        boolean admitted;
+        try {
+            admitted = bulkhead.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"message\":\"Error: server busy (" + bulkhead.getName()
+                    + "), please retry shortly\"}");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            bulkhead.exit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.erp.universitycoursemanagement.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** username -> active User, read by AuthTokenFilter on every request. */
+    public static final String USER_DETAILS = "userDetails";
+    /** courseId -> GradeDistribution; evicted by every enrollment write on the course. */
+    public static final String GRADE_DISTRIBUTION = "gradeDistribution";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> userDetailsCache(
+            @Value("${app.userCache.maxSize:10000}") long maxSize,
+            @Value("${app.userCache.ttlSeconds:30}") long ttlSeconds) {
+        // local to each instance: the TTL is how long other instances may still authenticate a changed user
+        // stats feed the cache.gets{result=hit|miss} meters once a MeterRegistry is present
+        return cm -> cm.registerCustomCache(USER_DETAILS, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build());
+    }
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> gradeDistributionCache(
+            @Value("${app.gradeDistributionCache.maxSize:5000}") long maxSize,
+            @Value("${app.gradeDistributionCache.ttlSeconds:60}") long ttlSeconds) {
+        // evictions only reach this instance's cache, so the TTL bounds staleness from writes made on other
+        // instances (and from writes that bypass EnrollmentService)
+        return cm -> cm.registerCustomCache(GRADE_DISTRIBUTION, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build());
+    }
+}
@@ -0,0 +1,38 @@
+package com.erp.universitycoursemanagement.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Attaches {@link HibernateSessionMetrics} to every session. Factory-wide Hibernate counters (queries,
+ * entity loads, cache regions) are published by Spring Boot from the statistics enabled in
+ * application.properties.
+ */
+@Configuration
+public class HibernateMetricsConfig {
+
+    private final EntityManagerFactory emf;
+
+    public HibernateMetricsConfig(EntityManagerFactory emf) {
+        this.emf = emf;
+    }
+
+    @Bean
+    static HibernatePropertiesCustomizer sessionMetricsCustomizer() {
+        return props -> props.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, HibernateSessionMetrics.class.getName());
+    }
+
+    @PostConstruct
+    void countEntityLoads() {
+        emf.unwrap(SessionFactoryImplementor.class).getServiceRegistry().requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> HibernateSessionMetrics.entityLoaded());
+    }
+}
@@ -0,0 +1,93 @@
+package com.erp.universitycoursemanagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Per-session Hibernate work, recorded as distribution summaries when the session closes. With
+ * open-in-view every request runs on one session, so these are per-request figures: JDBC statements
+ * (batches count once), second-level cache hits and misses, and entities loaded. Each statement is
+ * also timed and reported to any open {@link SqlStatementStats} scope on the thread.
+ * <p>
+ * Hibernate creates one instance per session (see {@link HibernateMetricsConfig}), so the meters go
+ * to Micrometer's global registry, which Spring Boot wires to the application's registries.
+ */
+public class HibernateSessionMetrics implements SessionEventListener {
+
+    private static final DistributionSummary STATEMENTS = summary("statements", "JDBC statements executed per session");
+    private static final DistributionSummary CACHE_HITS = summary("cache.hits", "Second-level cache hits per session");
+    private static final DistributionSummary CACHE_MISSES = summary("cache.misses", "Second-level cache misses per session");
+    private static final DistributionSummary ENTITY_LOADS = summary("entity.loads", "Entities loaded per session");
+
+    // entity loads have no session event, so the post-load listener finds the session opened on its thread
+    private static final ThreadLocal<HibernateSessionMetrics> CURRENT = new ThreadLocal<>();
+
+    private final HibernateSessionMetrics outer;
+    private int statements, cacheHits, cacheMisses, entityLoads;
+    private long executeStart;
+    private boolean ended;
+
+    public HibernateSessionMetrics() {
+        HibernateSessionMetrics o = CURRENT.get();
+        while (o != null && o.ended) o = o.outer; // sessions closed on another thread
+        outer = o;
+        CURRENT.set(this);
+    }
+
+    private static DistributionSummary summary(String name, String description) {
+        return DistributionSummary.builder("hibernate.session." + name)
+                .description(description)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+    }
+
+    static void entityLoaded() {
+        HibernateSessionMetrics current = CURRENT.get();
+        if (current != null && !current.ended) current.entityLoads++;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executed();
+    }
+
+    private void executed() {
+        statements++;
+        SqlStatementStats.record(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        if (hit) cacheHits++;
+        else cacheMisses++;
+    }
+
+    @Override
+    public void end() {
+        ended = true;
+        if (CURRENT.get() == this) {
+            if (outer != null) CURRENT.set(outer);
+            else CURRENT.remove();
+        }
+        STATEMENTS.record(statements);
+        CACHE_HITS.record(cacheHits);
+        CACHE_MISSES.record(cacheMisses);
+        ENTITY_LOADS.record(entityLoads);
+    }
+}
@@ -0,0 +1,60 @@
+package com.erp.universitycoursemanagement.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Read-your-writes on top of replica routing: after a user's request wrote to the primary, that user's
+ * requests read from the primary too until the window (the tolerated replica lag) has passed. So a
+ * student who just enrolled sees the enrollment even if the replica hasn't caught up. Tracked per
+ * username in this instance; anonymous requests are never pinned.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesInterceptor(Duration window) {
+        this.recentWriters = Caffeine.newBuilder().expireAfterWrite(window).maximumSize(100_000).build();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRoutingDataSource.clear();
+        String user = currentUser();
+        if (user != null && recentWriters.getIfPresent(user) != null) ReplicaRoutingDataSource.pinPrimary();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        String user = currentUser();
+        if (user != null && ReplicaRoutingDataSource.wroteToPrimary()) recentWriters.put(user, Boolean.TRUE);
+        ReplicaRoutingDataSource.clear();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRoutingDataSource.clear();
+    }
+
+    /** Also usable outside MVC (tests, jobs): records {@code user} as having just written. */
+    public void recordWrite(String user) {
+        recentWriters.put(user, Boolean.TRUE);
+    }
+
+    public boolean isPinned(String user) {
+        return recentWriters.getIfPresent(user) != null;
+    }
+
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() ? auth.getName() : null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.erp.universitycoursemanagement.config;
+
+import com.erp.universitycoursemanagement.config.ReplicaRoutingDataSource.Target;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Primary/replica routing, active only when {@code app.replica.jdbcUrl} is set; without it the app
+ * runs on Boot's single auto-configured pool as before. The primary pool is configured through the
+ * usual {@code spring.datasource.*} properties, the replica pool through {@code app.replica.*}
+ * (any Hikari setting, e.g. {@code app.replica.maximumPoolSize}).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.replica", name = "jdbcUrl")
+public class ReplicaDataSourceConfig implements WebMvcConfigurer {
+
+    @Value("${app.replica.readYourWritesMs:5000}")
+    private long readYourWritesMs;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource ds = new HikariDataSource();
+        ds.setPoolName("replica");
+        ds.setReadOnly(true);
+        return ds;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource();
+        routing.setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public ReadYourWritesInterceptor readYourWritesInterceptor() {
+        return new ReadYourWritesInterceptor(Duration.ofMillis(readYourWritesMs));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (readYourWritesMs > 0) registry.addInterceptor(readYourWritesInterceptor());
+    }
+}
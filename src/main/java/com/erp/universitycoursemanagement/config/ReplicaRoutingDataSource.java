@@ -0,0 +1,39 @@
+package com.erp.universitycoursemanagement.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the read-only flag of a
+ * transaction is only visible once it has begun, after the transaction manager asked for a connection.
+ * <p>
+ * A request can be pinned to the primary ({@link #pinPrimary()}) so it reads its own recent writes.
+ * The routing also notes when the current thread used the primary inside a read-write transaction,
+ * which is what {@link ReadYourWritesInterceptor} treats as "this client wrote".
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> pinned = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> wrote = new ThreadLocal<>();
+
+    public static void pinPrimary() { pinned.set(Boolean.TRUE); }
+
+    public static boolean wroteToPrimary() { return wrote.get() != null; }
+
+    public static void clear() {
+        pinned.remove();
+        wrote.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean inTx = TransactionSynchronizationManager.isActualTransactionActive();
+        if (inTx && TransactionSynchronizationManager.isCurrentTransactionReadOnly() && pinned.get() == null)
+            return Target.REPLICA;
+        if (inTx && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) wrote.set(Boolean.TRUE);
+        return Target.PRIMARY;
+    }
+}
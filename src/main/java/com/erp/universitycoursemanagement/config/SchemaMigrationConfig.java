@@ -0,0 +1,23 @@
+package com.erp.universitycoursemanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs the Flyway migrations on startup unless app.schema.migrateOnStartup=false. Switching them off is
+ * for instances started after the schema is already current (scale-out, where every new pod would
+ * otherwise queue on Flyway's lock) and for the CDS training run, which has no database. Unlike
+ * spring.flyway.enabled, this is read at runtime, so it also works with the AOT build.
+ */
+@Configuration
+public class SchemaMigrationConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(@Value("${app.schema.migrateOnStartup:true}") boolean migrate) {
+        return flyway -> {
+            if (migrate) flyway.migrate();
+        };
+    }
+}
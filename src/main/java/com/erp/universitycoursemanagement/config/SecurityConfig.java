@@ -1,9 +1,14 @@
 package com.erp.universitycoursemanagement.config;
 
 import com.erp.universitycoursemanagement.security.AuthTokenFilter;
+import com.erp.universitycoursemanagement.security.BcryptCostCalibrator;
+import com.erp.universitycoursemanagement.security.BoundedPasswordEncoder;
 import com.erp.universitycoursemanagement.service.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -30,10 +35,12 @@ public class SecurityConfig {
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // hashes below the current cost are rewritten with the password presented at the next successful login
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -42,28 +49,53 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt off the request threads, on a bounded pool. The cost is app.passwordHashing.strength, or when
+     * that is 0 the highest cost that hashes within app.passwordHashing.targetMs on this machine.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${app.passwordHashing.strength:0}") int strength,
+            @Value("${app.passwordHashing.targetMs:200}") long targetMs,
+            @Value("${app.passwordHashing.minStrength:10}") int minStrength,
+            @Value("${app.passwordHashing.maxStrength:14}") int maxStrength,
+            @Value("${app.passwordHashing.threads:0}") int threads,
+            @Value("${app.passwordHashing.queueCapacity:64}") int queueCapacity) {
+        int cost = strength > 0 ? strength : BcryptCostCalibrator.calibrate(targetMs, minStrength, maxStrength);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(cost),
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity);
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, DaoAuthenticationProvider authenticationProvider) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // async dispatches only resume requests (streamed exports) that were already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
+                // probes and the scrape endpoint; keep the port off the public network or move them with management.server.port
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/api/test/public").permitAll()
                 .requestMatchers("/api/test/user").authenticated()
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                .requestMatchers("/api/courses/grade-distribution", "/api/courses/*/grade-distribution")
+                        .hasAnyRole("INSTRUCTOR", "ADMIN")
                 .requestMatchers("/api/courses/**").hasAnyRole("STUDENT", "INSTRUCTOR", "ADMIN")
+                .requestMatchers("/api/reports/**").hasAnyRole("INSTRUCTOR", "ADMIN")
                 .requestMatchers("/api/students/**").hasAnyRole("STUDENT", "INSTRUCTOR", "ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/enrollments/batch").hasAnyRole("INSTRUCTOR", "ADMIN")
+                // full rosters with names and emails
+                .requestMatchers("/api/enrollments/export", "/api/enrollments/by-course/*/export")
+                        .hasAnyRole("INSTRUCTOR", "ADMIN")
                 .requestMatchers("/api/enrollments/**").hasAnyRole("STUDENT", "INSTRUCTOR", "ADMIN")
                 .anyRequest().authenticated()
             );
 
-        http.authenticationProvider(authenticationProvider());
+        http.authenticationProvider(authenticationProvider);
         http.addFilterBefore(authTokenFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
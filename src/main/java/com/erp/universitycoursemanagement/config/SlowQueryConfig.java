@@ -0,0 +1,41 @@
+package com.erp.universitycoursemanagement.config;
+
+import com.erp.universitycoursemanagement.profiling.ProfilingDataSource;
+import com.erp.universitycoursemanagement.profiling.SlowQueryLog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's {@code dataSource} (the routing proxy when a replica is configured, so both
+ * pools are covered) in a {@link ProfilingDataSource} feeding the slow-query ring behind
+ * /api/admin/slow-queries. app.slowQuery.enabled=false leaves the DataSource unwrapped and the log empty.
+ */
+@Configuration
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(@Value("${app.slowQuery.capacity:100}") int capacity,
+                                     @Value("${app.slowQuery.thresholdMs:200}") long thresholdMs,
+                                     @Value("${app.slowQuery.explain:true}") boolean explain) {
+        return new SlowQueryLog(capacity, thresholdMs, explain);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.slowQuery", name = "enabled", matchIfMissing = true)
+    static BeanPostProcessor slowQueryDataSourceWrapper(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource ds && beanName.equals("dataSource") && !(bean instanceof ProfilingDataSource))
+                    return new ProfilingDataSource(ds, slowQueryLog.getObject());
+                return bean;
+            }
+        };
+    }
+}
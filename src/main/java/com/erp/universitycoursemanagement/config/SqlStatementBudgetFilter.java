@@ -0,0 +1,159 @@
+package com.erp.universitycoursemanagement.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Counts the SQL statements and DB time of every request (see {@link SqlStatementStats}) and logs a
+ * warning for requests over app.sqlStats.statementBudget, which is how N+1 regressions show up in the
+ * logs. With app.sqlStats.headers (on in the debug profile) the counts are also sent back as
+ * X-SQL-Statements / X-SQL-Time-Ms. Headers are written just before the response commits, so they
+ * include lazy loads during JSON serialization but not statements run after the first body flush.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATS_ATTRIBUTE = SqlStatementStats.class.getName();
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    private final int statementBudget;
+    private final boolean headers;
+
+    public SqlStatementBudgetFilter(@Value("${app.sqlStats.statementBudget:20}") int statementBudget,
+                                    @Value("${app.sqlStats.headers:false}") boolean headers) {
+        this.statementBudget = statementBudget;
+        this.headers = headers;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.start();
+        request.setAttribute(STATS_ATTRIBUTE, stats);
+        StatsHeaderResponse wrapped = headers ? new StatsHeaderResponse(response, stats) : null;
+        try {
+            chain.doFilter(request, wrapped != null ? wrapped : response);
+        } finally {
+            stats.stop();
+            if (wrapped != null) wrapped.writeHeaders();
+            if (stats.getStatements() > statementBudget)
+                log.warn("{} {} ran {} (budget {})", request.getMethod(), request.getRequestURI(), stats, statementBudget);
+        }
+    }
+
+    /** Adds the stats headers the first time the body is written or flushed. */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+        private final SqlStatementStats stats;
+        private boolean written;
+        private ServletOutputStream out;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) return;
+            written = true;
+            setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            setHeader(TIME_HEADER, String.valueOf(stats.getTimeMillis()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (out == null) out = new HeaderWritingStream(super.getOutputStream());
+            return out;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders(); // writers are only used for error pages; no need to defer
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+
+        private final class HeaderWritingStream extends ServletOutputStream {
+            private final ServletOutputStream delegate;
+
+            HeaderWritingStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                writeHeaders();
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writeHeaders();
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                writeHeaders();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                writeHeaders();
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                delegate.setWriteListener(listener);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.erp.universitycoursemanagement.config;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the JDBC statements Hibernate executes on the current thread, and the time spent executing
+ * them, between {@link #start()} and {@link #stop()}. Scopes nest: a statement counts towards every
+ * scope open on the thread, so a test can wrap a MockMvc call that opens its own per-request scope.
+ * Fed by {@link HibernateSessionMetrics}; plain JdbcTemplate calls are not counted.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementStats outer;
+    private int statements;
+    private long nanos;
+    private boolean stopped;
+
+    private SqlStatementStats(SqlStatementStats outer) {
+        this.outer = outer;
+    }
+
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** Runs {@code work} in its own scope and returns what it executed. */
+    public static SqlStatementStats count(Runnable work) {
+        SqlStatementStats stats = start();
+        try {
+            work.run();
+        } finally {
+            stats.stop();
+        }
+        return stats;
+    }
+
+    static void record(long elapsedNanos) {
+        for (SqlStatementStats s = CURRENT.get(); s != null; s = s.outer) {
+            if (s.stopped) continue;
+            s.statements++;
+            s.nanos += elapsedNanos;
+        }
+    }
+
+    /** Closes this scope; its counts stay readable. Must be called on the thread that started it. */
+    public void stop() {
+        if (stopped) return;
+        stopped = true;
+        SqlStatementStats top = CURRENT.get(), s = top;
+        while (s != null && s != this) s = s.outer;
+        if (s == null) return; // not open on this thread
+        for (s = top; s != this; s = s.outer) s.stopped = true; // inner scopes left open
+        if (outer != null) CURRENT.set(outer);
+        else CURRENT.remove();
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return statements + " statements in " + getTimeMillis() + " ms";
+    }
+}
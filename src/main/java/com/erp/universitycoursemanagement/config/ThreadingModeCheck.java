@@ -0,0 +1,57 @@
+package com.erp.universitycoursemanagement.config;
+
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs which threads serve requests. spring.threads.virtual.enabled (the virtual-threads profile) only
+ * takes effect on a Java 21+ runtime; on older JVMs Spring Boot silently keeps the platform pool, so
+ * say so instead of letting a load test run against the wrong mode. The answer comes from Tomcat's actual
+ * executor: with AOT (spring.aot.enabled) the Tomcat customizers were fixed when the image was built, and
+ * a profile activated only at startup no longer changes them.
+ */
+@Component
+public class ThreadingModeCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingModeCheck.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        Environment env = context.getEnvironment();
+        boolean requested = env.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (mode(context).equals("virtual")) {
+            log.info("Requests run on virtual threads");
+        } else if (requested && Threading.VIRTUAL.isActive(env)) {
+            log.warn("spring.threads.virtual.enabled is set, but Tomcat was configured without it{}; requests run on "
+                    + "Tomcat's platform thread pool", env.getProperty("spring.aot.enabled", Boolean.class, false)
+                    ? " when the AOT bean definitions were built (spring.aot.enabled)" : "");
+        } else if (requested) {
+            log.warn("spring.threads.virtual.enabled is set, but Java {} has no virtual threads (21+ required); "
+                    + "requests run on Tomcat's platform thread pool", Runtime.version().feature());
+        } else {
+            log.info("Requests run on Tomcat's platform thread pool (max {} threads)",
+                    env.getProperty("server.tomcat.threads.max", "200"));
+        }
+    }
+
+    /**
+     * The mode actually in effect, for benchmarks and diagnostics: Tomcat's request executor when the
+     * embedded server is running, otherwise what the environment asks for.
+     */
+    public static String mode(ApplicationContext context) {
+        if (context instanceof WebServerApplicationContext web && web.getWebServer() instanceof TomcatWebServer tomcat)
+            return tomcat.getTomcat().getConnector().getProtocolHandler().getExecutor() instanceof VirtualThreadExecutor
+                    ? "virtual" : "platform";
+        return Threading.VIRTUAL.isActive(context.getEnvironment()) ? "virtual" : "platform";
+    }
+}
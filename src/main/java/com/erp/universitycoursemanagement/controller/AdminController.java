@@ -0,0 +1,42 @@
+package com.erp.universitycoursemanagement.controller;
+
+import com.erp.universitycoursemanagement.dto.CacheRegionStats;
+import com.erp.universitycoursemanagement.dto.SlowQuery;
+import com.erp.universitycoursemanagement.profiling.SlowQueryLog;
+import com.erp.universitycoursemanagement.service.CacheStatsService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+    private final CacheStatsService cacheStats;
+    private final SlowQueryLog slowQueries;
+
+    public AdminController(CacheStatsService cacheStats, SlowQueryLog slowQueries) {
+        this.cacheStats = cacheStats;
+        this.slowQueries = slowQueries;
+    }
+
+    @GetMapping("/cache-stats") public List<CacheRegionStats> cacheStats() {
+        return cacheStats.regions();
+    }
+
+    @PostMapping("/cache-evict") public void evictCaches() {
+        cacheStats.evictAll();
+    }
+
+    @GetMapping("/slow-queries") public List<SlowQuery> slowQueries() {
+        return slowQueries.recent();
+    }
+
+    @DeleteMapping("/slow-queries") public void clearSlowQueries() {
+        slowQueries.clear();
+    }
+
+    @PutMapping("/slow-queries/threshold") public long slowQueryThreshold(@RequestParam long ms) {
+        slowQueries.setThresholdMs(ms);
+        return slowQueries.getThresholdMs();
+    }
+}
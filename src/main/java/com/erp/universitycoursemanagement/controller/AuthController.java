@@ -1,8 +1,11 @@
 package com.erp.universitycoursemanagement.controller;
 
 import com.erp.universitycoursemanagement.dto.*;
+import com.erp.universitycoursemanagement.security.PasswordHashingBusyException;
 import com.erp.universitycoursemanagement.service.AuthService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,6 +24,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.login(loginRequest);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            return busy(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(AuthResponse.builder()
@@ -34,6 +39,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.signup(signupRequest);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            return busy(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest()
                     .body(AuthResponse.builder()
@@ -43,9 +50,20 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<AuthResponse> logout() {
+    public ResponseEntity<AuthResponse> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        authService.logout(authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7) : null);
         return ResponseEntity.ok(AuthResponse.builder()
                 .message("User logged out successfully!")
                 .build());
     }
+
+    private static ResponseEntity<AuthResponse> busy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(AuthResponse.builder()
+                        .message("Error: " + e.getMessage())
+                        .build());
+    }
 }
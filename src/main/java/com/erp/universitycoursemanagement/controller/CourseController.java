@@ -1,5 +1,8 @@
 package com.erp.universitycoursemanagement.controller;
 
+import com.erp.universitycoursemanagement.dto.CourseSuggestion;
+import com.erp.universitycoursemanagement.dto.CursorPage;
+import com.erp.universitycoursemanagement.dto.GradeDistribution;
 import com.erp.universitycoursemanagement.model.Course;
 import com.erp.universitycoursemanagement.service.CourseService;
 import jakarta.validation.Valid;
@@ -7,6 +10,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/courses")
 public class CourseController {
@@ -17,6 +22,26 @@ public class CourseController {
         return service.list(pageable);
     }
 
+    /** Keyset pagination: pass {@code cursor=} for the first page, then each page's nextCursor. */
+    @GetMapping(params = "cursor") public CursorPage<Course> listAfter(@RequestParam String cursor,
+                                                                      @RequestParam(defaultValue = "20") int size) {
+        return service.listAfter(cursor, size);
+    }
+
+    @GetMapping("/count") public long count() {
+        return service.count();
+    }
+
+    @GetMapping("/suggest") public List<CourseSuggestion> suggest(@RequestParam String q,
+                                                                  @RequestParam(defaultValue = "10") int limit) {
+        return service.suggest(q, limit);
+    }
+
+    /** Grade histogram of every course, in code order. */
+    @GetMapping("/grade-distribution") public List<GradeDistribution> gradeDistributions() {
+        return service.gradeDistributions();
+    }
+
     @PostMapping public Course create(@Valid @RequestBody Course course) {
         return service.create(course);
     }
@@ -26,6 +51,10 @@ public class CourseController {
 
     }
 
+    @GetMapping("/{id}/grade-distribution") public GradeDistribution gradeDistribution(@PathVariable Long id) {
+        return service.gradeDistribution(id);
+    }
+
     @PutMapping("/{id}") public Course update(@PathVariable Long id, @Valid @RequestBody Course course) {
         return service.update(id, course);
     }
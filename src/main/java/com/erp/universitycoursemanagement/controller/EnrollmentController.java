@@ -1,9 +1,20 @@
 package com.erp.universitycoursemanagement.controller;
 
+import com.erp.universitycoursemanagement.dto.BatchEnrollmentRequest;
+import com.erp.universitycoursemanagement.dto.BatchEnrollmentResult;
+import com.erp.universitycoursemanagement.dto.CursorPage;
 import com.erp.universitycoursemanagement.model.Enrollment;
 import com.erp.universitycoursemanagement.model.Grade;
+import com.erp.universitycoursemanagement.service.EnrollmentExportService;
+import com.erp.universitycoursemanagement.service.EnrollmentExportService.Format;
 import com.erp.universitycoursemanagement.service.EnrollmentService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -11,13 +22,26 @@ import java.util.List;
 @RequestMapping("/api/enrollments")
 public class EnrollmentController {
     private final EnrollmentService service;
-    public EnrollmentController(EnrollmentService service) { this.service = service; }
+    private final EnrollmentExportService exporter;
+
+    public EnrollmentController(EnrollmentService service, EnrollmentExportService exporter) {
+        this.service = service;
+        this.exporter = exporter;
+    }
 
     @PostMapping("/enroll")
     public Enrollment enroll(@RequestParam Long studentId, @RequestParam Long courseId) {
         return service.enroll(studentId, courseId);
     }
 
+    @PostMapping("/batch")
+    public List<BatchEnrollmentResult> enrollBatch(@RequestBody List<BatchEnrollmentRequest> rows) {
+        if (rows.size() > EnrollmentService.MAX_BATCH_ROWS)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + EnrollmentService.MAX_BATCH_ROWS + " rows per batch, got " + rows.size());
+        return service.enrollBatch(rows);
+    }
+
     @PatchMapping("/{id}/grade")
     public Enrollment grade(@PathVariable Long id, @RequestParam Grade grade) {
         return service.grade(id, grade);
@@ -31,6 +55,45 @@ public class EnrollmentController {
         return service.byCourse(courseId);
     }
 
+    @GetMapping(value = "/by-student/{studentId}", params = "cursor")
+    public CursorPage<Enrollment> byStudentAfter(@PathVariable Long studentId, @RequestParam String cursor,
+                                                 @RequestParam(defaultValue = "20") int size) {
+        return service.byStudentAfter(studentId, cursor, size);
+    }
+
+    @GetMapping(value = "/by-course/{courseId}", params = "cursor")
+    public CursorPage<Enrollment> byCourseAfter(@PathVariable Long courseId, @RequestParam String cursor,
+                                                @RequestParam(defaultValue = "20") int size) {
+        return service.byCourseAfter(courseId, cursor, size);
+    }
+
+    @GetMapping("/by-student/{studentId}/count") public long countByStudent(@PathVariable Long studentId) {
+        return service.countByStudent(studentId);
+    }
+
+    @GetMapping("/by-course/{courseId}/count") public long countByCourse(@PathVariable Long courseId) {
+        return service.countByCourse(courseId);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "CSV") Format format) {
+        return attachment("enrollments." + format.getExtension(), format, out -> exporter.exportAll(format, out));
+    }
+
+    @GetMapping("/by-course/{courseId}/export")
+    public ResponseEntity<StreamingResponseBody> exportRoster(@PathVariable Long courseId,
+                                                              @RequestParam(defaultValue = "CSV") Format format) {
+        return attachment("roster-" + courseId + "." + format.getExtension(), format,
+                out -> exporter.exportCourse(courseId, format, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(String filename, Format format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
     @DeleteMapping("/{id}") public void drop(@PathVariable Long id) {
         service.drop(id);
     }
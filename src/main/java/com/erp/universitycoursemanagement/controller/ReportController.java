@@ -0,0 +1,22 @@
+package com.erp.universitycoursemanagement.controller;
+
+import com.erp.universitycoursemanagement.dto.GpaRankEntry;
+import com.erp.universitycoursemanagement.dto.GpaRankReport;
+import com.erp.universitycoursemanagement.service.GpaRankingService;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+    private final GpaRankingService ranking;
+    public ReportController(GpaRankingService ranking) { this.ranking = ranking; }
+
+    /** Dean's list: the {@code top} best GPAs (max 1000) and the GPA at common percentiles. */
+    @GetMapping("/gpa-rank") public GpaRankReport gpaRank(@RequestParam(defaultValue = "10") int top) {
+        return ranking.top(top);
+    }
+
+    @GetMapping("/gpa-rank/{studentId}") public GpaRankEntry gpaRank(@PathVariable Long studentId) {
+        return ranking.forStudent(studentId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.erp.universitycoursemanagement.controller;
 
+import com.erp.universitycoursemanagement.dto.CursorPage;
 import com.erp.universitycoursemanagement.model.Student;
 import com.erp.universitycoursemanagement.service.StudentService;
 import jakarta.validation.Valid;
@@ -17,6 +18,20 @@ public class StudentController {
         return service.list(pageable);
     }
 
+    /** Keyset pagination: pass {@code cursor=} for the first page, then each page's nextCursor. */
+    @GetMapping(params = "cursor") public CursorPage<Student> listAfter(@RequestParam String cursor,
+                                                                       @RequestParam(defaultValue = "20") int size) {
+        return service.listAfter(cursor, size);
+    }
+
+    @GetMapping("/count") public long count() {
+        return service.count();
+    }
+
+    @GetMapping("/search") public Page<Student> search(@RequestParam String q, Pageable pageable) {
+        return service.search(q, pageable);
+    }
+
     @PostMapping public Student create(@Valid @RequestBody Student student) {
         return service.create(student);
     }
@@ -0,0 +1,63 @@
+package com.erp.universitycoursemanagement.datagen;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line entry point: fills the configured database with a synthetic dataset and exits.
+ * <pre>
+ * java -jar app.jar --spring.main.web-application-type=none --app.datagen.run=true \
+ *      --app.datagen.students=2500000 --app.datagen.courses=5000 --app.datagen.users=100000 [--app.datagen.seed=7]
+ * </pre>
+ * Every {@link DatasetSpec} property can be set as app.datagen.&lt;name&gt;; unset ones keep their defaults.
+ * With {@code --app.datagen.admins=N}, the admin usernames and their random passwords are printed once.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.datagen", name = "run", havingValue = "true")
+public class DataGeneratorRunner implements ApplicationRunner {
+
+    private final SyntheticDataGenerator generator;
+    private final Environment env;
+    private final ConfigurableApplicationContext context;
+
+    public DataGeneratorRunner(SyntheticDataGenerator generator, Environment env, ConfigurableApplicationContext context) {
+        this.generator = generator;
+        this.env = env;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        GeneratedDataset dataset = generator.generate(spec(env));
+        // on the console only, never in the log: this is the one chance to note them down
+        if (!dataset.getAdminPasswords().isEmpty()) {
+            System.out.println("Admin accounts (passwords are not shown again):");
+            dataset.getAdminPasswords().forEach((username, password) -> System.out.println("  " + username + " " + password));
+        }
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    static DatasetSpec spec(Environment env) {
+        DatasetSpec d = DatasetSpec.builder().build();
+        return DatasetSpec.builder()
+                .prefix(env.getProperty("app.datagen.prefix", d.getPrefix()))
+                .seed(env.getProperty("app.datagen.seed", Long.class, d.getSeed()))
+                .students(env.getProperty("app.datagen.students", Integer.class, d.getStudents()))
+                .courses(env.getProperty("app.datagen.courses", Integer.class, d.getCourses()))
+                .minEnrollmentsPerStudent(env.getProperty("app.datagen.minEnrollmentsPerStudent", Integer.class, d.getMinEnrollmentsPerStudent()))
+                .maxEnrollmentsPerStudent(env.getProperty("app.datagen.maxEnrollmentsPerStudent", Integer.class, d.getMaxEnrollmentsPerStudent()))
+                .popularitySkew(env.getProperty("app.datagen.popularitySkew", Double.class, d.getPopularitySkew()))
+                .gradedFraction(env.getProperty("app.datagen.gradedFraction", Double.class, d.getGradedFraction()))
+                .capacity(env.getProperty("app.datagen.capacity", Integer.class, d.getCapacity()))
+                .users(env.getProperty("app.datagen.users", Integer.class, d.getUsers()))
+                .admins(env.getProperty("app.datagen.admins", Integer.class, d.getAdmins()))
+                .distinctPasswords(env.getProperty("app.datagen.distinctPasswords", Integer.class, d.getDistinctPasswords()))
+                .bcryptStrength(env.getProperty("app.datagen.bcryptStrength", Integer.class, d.getBcryptStrength()))
+                .build();
+    }
+}
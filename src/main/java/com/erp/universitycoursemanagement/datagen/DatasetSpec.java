@@ -0,0 +1,66 @@
+package com.erp.universitycoursemanagement.datagen;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Shape of a synthetic dataset. The same spec and seed always produce the same rows (ids aside), so
+ * numbers measured on a generated database can be reproduced on another one.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class DatasetSpec {
+
+    /** Marks every generated row (index numbers, course codes, usernames) so several datasets can coexist. */
+    @Builder.Default private String prefix = "GEN";
+    @Builder.Default private long seed = 42;
+
+    @Builder.Default private int students = 10_000;
+    @Builder.Default private int courses = 200;
+    /** Each student takes between min and max distinct courses (uniform). */
+    @Builder.Default private int minEnrollmentsPerStudent = 2;
+    @Builder.Default private int maxEnrollmentsPerStudent = 6;
+    /** Zipf exponent of course popularity: 0 is uniform; at 1 the k-th most popular course gets 1/k of the first one's enrollments. */
+    @Builder.Default private double popularitySkew = 1.0;
+    @Builder.Default private double gradedFraction = 0.7;
+    /** Course capacity; raised to the course's enrollment count where popularity exceeds it. */
+    @Builder.Default private int capacity = 200;
+
+    /** Login accounts; user i has role INSTRUCTOR every 50th, STUDENT otherwise. */
+    @Builder.Default private int users = 10_000;
+    /**
+     * ADMIN accounts on top of {@link #users}, none unless asked for. Their passwords are random rather than
+     * derived from the spec, and only handed back in {@link GeneratedDataset#getAdminPasswords()}.
+     */
+    @Builder.Default private int admins = 0;
+    /** Passwords cycle through this many values, so only this many BCrypt hashes are computed. */
+    @Builder.Default private int distinctPasswords = 8;
+    @Builder.Default private int bcryptStrength = 10;
+
+    public String username(int i) {
+        return prefix.toLowerCase() + "-" + i;
+    }
+
+    public String adminUsername(int i) {
+        return prefix.toLowerCase() + "-admin-" + i;
+    }
+
+    public String password(int i) {
+        return prefix.toLowerCase() + "-password-" + (i % distinctPasswords);
+    }
+
+    void validate() {
+        if (prefix == null || !prefix.matches("[A-Za-z][A-Za-z0-9]{0,7}"))
+            throw new IllegalArgumentException("prefix must be 1-8 letters or digits, starting with a letter: " + prefix);
+        if (students < 0 || courses < 0 || users < 0 || admins < 0)
+            throw new IllegalArgumentException("students, courses, users and admins must not be negative");
+        if (students > 0 && courses == 0)
+            throw new IllegalArgumentException("students need at least one course");
+        if (minEnrollmentsPerStudent < 0 || maxEnrollmentsPerStudent < minEnrollmentsPerStudent)
+            throw new IllegalArgumentException("need 0 <= minEnrollmentsPerStudent <= maxEnrollmentsPerStudent");
+        if (gradedFraction < 0 || gradedFraction > 1)
+            throw new IllegalArgumentException("gradedFraction must be between 0 and 1");
+        if (distinctPasswords < 1)
+            throw new IllegalArgumentException("distinctPasswords must be at least 1");
+    }
+}
@@ -0,0 +1,44 @@
+package com.erp.universitycoursemanagement.datagen;
+
+import java.util.Map;
+
+/** What {@link SyntheticDataGenerator#generate} wrote; student and course ids are in generation order. */
+public class GeneratedDataset {
+    private final DatasetSpec spec;
+    private final long[] studentIds;
+    private final long[] courseIds;
+    private final long enrollments;
+    private final long gradedEnrollments;
+    private final int users;
+    private final Map<String, String> adminPasswords;
+    private final long elapsedMs;
+
+    GeneratedDataset(DatasetSpec spec, long[] studentIds, long[] courseIds, long enrollments, long gradedEnrollments,
+                     int users, Map<String, String> adminPasswords, long elapsedMs) {
+        this.spec = spec;
+        this.studentIds = studentIds;
+        this.courseIds = courseIds;
+        this.enrollments = enrollments;
+        this.gradedEnrollments = gradedEnrollments;
+        this.users = users;
+        this.adminPasswords = adminPasswords;
+        this.elapsedMs = elapsedMs;
+    }
+
+    public DatasetSpec getSpec() { return spec; }
+    public long[] getStudentIds() { return studentIds; }
+    public long[] getCourseIds() { return courseIds; }
+    public long getEnrollments() { return enrollments; }
+    public long getGradedEnrollments() { return gradedEnrollments; }
+    public int getUsers() { return users; }
+    /** Username to plain-text password of the generated admins; not stored anywhere else and never logged. */
+    public Map<String, String> getAdminPasswords() { return adminPasswords; }
+    public long getElapsedMs() { return elapsedMs; }
+
+    @Override
+    public String toString() {
+        return String.format("%d students, %d courses, %d enrollments (%d graded), %d users (%d admins) in %.1f s",
+                studentIds.length, courseIds.length, enrollments, gradedEnrollments, users, adminPasswords.size(),
+                elapsedMs / 1000.0);
+    }
+}
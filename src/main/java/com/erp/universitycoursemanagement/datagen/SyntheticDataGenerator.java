@@ -0,0 +1,367 @@
+package com.erp.universitycoursemanagement.datagen;
+
+import com.erp.universitycoursemanagement.model.Grade;
+import com.erp.universitycoursemanagement.model.Role;
+import com.erp.universitycoursemanagement.search.CourseSuggestIndex;
+import com.erp.universitycoursemanagement.search.StudentSearchIndex;
+import com.erp.universitycoursemanagement.service.GpaRankingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Writes a {@link DatasetSpec} straight into students, courses, enrollments, student_gpa and users with
+ * batched JDBC, bypassing the services: millions of enrollments take minutes instead of hours. Everything
+ * derived is written too (seat counts, GPA aggregates), and the in-memory search indexes and GPA ranking
+ * are refreshed, so the application can serve the data right away.
+ * <p>
+ * Enrollment ids come from a block reserved on the enrollments_seq generator before any row is written,
+ * so a running application keeps allocating ids above it. On MySQL, add rewriteBatchedStatements=true to
+ * the JDBC URL; without it every batched row is its own round-trip. Rows are committed in chunks, so a
+ * failed run leaves a partial dataset behind; generate again under another prefix.
+ */
+@Component
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final int BATCH = 5_000;
+    private static final int COMMIT_EVERY = 50_000;
+    private static final int SEQUENCE_INCREMENT = 50; // allocationSize of Enrollment's generator
+    private static final LocalDateTime REGISTRATION_OPENS = LocalDateTime.of(2026, 1, 5, 8, 0);
+    private static final int REGISTRATION_SECONDS = 14 * 24 * 3600;
+
+    private static final String[] FIRST_NAMES = {"Ada", "Alan", "Grace", "Kasun", "Nimal", "Sunil", "Maya", "Tharindu",
+            "Dilani", "Ruwan", "Linus", "Barbara", "Edsger", "Chamari", "Ishara", "Priya", "Omar", "Lena", "Hiroshi",
+            "Amara", "Mateo", "Sofia", "Noah", "Fatima", "Lucas", "Ayesha", "Kavindu", "Nethmi", "Jonas", "Elena"};
+    private static final String[] LAST_NAMES = {"Perera", "Fernando", "Silva", "Jayasinghe", "Wickramasinghe",
+            "Bandara", "Dissanayake", "Herath", "Rajapaksa", "Gunawardena", "Smith", "Brown", "Garcia", "Nguyen",
+            "Kumar", "Khan", "Müller", "Rossi", "Tanaka", "Kim", "Okafor", "Haddad", "Novak", "Larsen", "Costa"};
+    private static final String[] SUBJECTS = {"Algorithms", "Databases", "Networks", "Calculus", "Statistics", "Physics",
+            "Chemistry", "Economics", "Accounting", "Linguistics", "Robotics", "Security", "Biology", "Philosophy",
+            "Marketing", "Compilers", "Operating Systems", "Linear Algebra", "Machine Learning", "Ethics"};
+    private static final String[] LEVELS = {"Introduction to", "Foundations of", "Applied", "Advanced", "Topics in"};
+    private static final int[] CREDITS = {1, 2, 3, 3, 3, 3, 4, 4, 5, 6};
+    // roughly bell-shaped around B
+    private static final int[] GRADE_WEIGHTS = {4, 9, 11, 13, 15, 12, 10, 8, 6, 4, 4, 4};
+
+    private final DataSource dataSource;
+    private final ObjectProvider<StudentSearchIndex> studentIndex;
+    private final ObjectProvider<CourseSuggestIndex> courseIndex;
+    private final ObjectProvider<GpaRankingService> ranking;
+
+    public SyntheticDataGenerator(DataSource dataSource, ObjectProvider<StudentSearchIndex> studentIndex,
+                                  ObjectProvider<CourseSuggestIndex> courseIndex, ObjectProvider<GpaRankingService> ranking) {
+        this.dataSource = dataSource;
+        this.studentIndex = studentIndex;
+        this.courseIndex = courseIndex;
+        this.ranking = ranking;
+    }
+
+    public GeneratedDataset generate(DatasetSpec spec) {
+        spec.validate();
+        long started = System.currentTimeMillis();
+        Random random = new Random(spec.getSeed());
+        try (Connection con = dataSource.getConnection()) {
+            boolean autoCommit = con.getAutoCommit();
+            con.setAutoCommit(false);
+            try {
+                assertPrefixUnused(con, spec);
+                long[] studentIds = insertStudents(con, spec, random);
+                Course[] catalog = insertCourses(con, spec, random);
+                long[] counts = insertEnrollments(con, spec, random, studentIds, catalog);
+                updateSeats(con, catalog);
+                insertUsers(con, spec);
+                Map<String, String> adminPasswords = insertAdmins(con, spec);
+                long[] courseIds = Arrays.stream(catalog).mapToLong(Course::id).toArray();
+                GeneratedDataset result = new GeneratedDataset(spec, studentIds, courseIds, counts[0], counts[1],
+                        spec.getUsers() + spec.getAdmins(), adminPasswords, System.currentTimeMillis() - started);
+                refreshInMemoryState();
+                log.info("Generated {}", result);
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                con.rollback();
+                throw e;
+            } finally {
+                con.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Dataset generation failed: " + e.getMessage(), e);
+        }
+    }
+
+    private long[] insertStudents(Connection con, DatasetSpec spec, Random random) throws SQLException {
+        try (Batch batch = new Batch(con, "INSERT INTO students (index_number, first_name, last_name, email) VALUES (?,?,?,?)")) {
+            for (int i = 0; i < spec.getStudents(); i++) {
+                String index = studentIndex(spec, i);
+                String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                batch.add(index, first, last, index.toLowerCase() + "@students.example.edu");
+            }
+        }
+        return ids(con, "SELECT id FROM students WHERE index_number LIKE ? AND LENGTH(index_number) = "
+                + studentIndex(spec, 0).length() + " ORDER BY index_number", spec.getPrefix() + "%", spec.getStudents());
+    }
+
+    private Course[] insertCourses(Connection con, DatasetSpec spec, Random random) throws SQLException {
+        int[] credits = new int[spec.getCourses()];
+        try (Batch batch = new Batch(con, "INSERT INTO courses (code, title, credits, capacity, seats_taken) VALUES (?,?,?,?,0)")) {
+            for (int c = 0; c < spec.getCourses(); c++) {
+                credits[c] = CREDITS[random.nextInt(CREDITS.length)];
+                String title = LEVELS[random.nextInt(LEVELS.length)] + " " + SUBJECTS[random.nextInt(SUBJECTS.length)]
+                        + " " + (c / (LEVELS.length * SUBJECTS.length) + 1);
+                batch.add(courseCode(spec, c), title, credits[c], spec.getCapacity());
+            }
+        }
+        long[] ids = ids(con, "SELECT id FROM courses WHERE code LIKE ? ORDER BY code", spec.getPrefix() + "-%", spec.getCourses());
+        Course[] catalog = new Course[ids.length];
+        for (int c = 0; c < ids.length; c++) catalog[c] = new Course(ids[c], credits[c], spec.getCapacity(), new int[1]);
+        return catalog;
+    }
+
+    /** Returns {enrollments, graded}; also writes each student's GPA aggregate. */
+    private long[] insertEnrollments(Connection con, DatasetSpec spec, Random random, long[] studentIds, Course[] catalog)
+            throws SQLException {
+        if (studentIds.length == 0) return new long[]{0, 0};
+        long nextId = reserveEnrollmentIds(con, (long) studentIds.length * spec.getMaxEnrollmentsPerStudent());
+        double[] popularity = zipfCdf(catalog.length, spec.getPopularitySkew());
+        double[] gradeCdf = cdf(GRADE_WEIGHTS);
+        Grade[] grades = Grade.values();
+        int perStudent = Math.min(spec.getMaxEnrollmentsPerStudent(), catalog.length);
+        long enrollments = 0, graded = 0;
+
+        try (Batch rows = new Batch(con, "INSERT INTO enrollments (id, student_id, course_id, enrolled_at, grade) VALUES (?,?,?,?,?)");
+             Batch gpas = new Batch(con, "INSERT INTO student_gpa (student_id, graded_credits, weighted_pointsx10) VALUES (?,?,?)")) {
+            int[] picked = new int[perStudent];
+            for (long studentId : studentIds) {
+                int k = Math.min(perStudent, spec.getMinEnrollmentsPerStudent()
+                        + random.nextInt(spec.getMaxEnrollmentsPerStudent() - spec.getMinEnrollmentsPerStudent() + 1));
+                int credits = 0;
+                long pointsX10 = 0;
+                for (int j = 0; j < k; j++) {
+                    int c;
+                    do c = sample(popularity, random); while (contains(picked, j, c));
+                    picked[j] = c;
+                    Grade grade = random.nextDouble() < spec.getGradedFraction() ? grades[sample(gradeCdf, random)] : null;
+                    LocalDateTime enrolledAt = REGISTRATION_OPENS.plusSeconds(random.nextInt(REGISTRATION_SECONDS));
+                    rows.add(nextId++, studentId, catalog[c].id(), Timestamp.valueOf(enrolledAt), grade == null ? null : grade.name());
+                    catalog[c].taken()[0]++;
+                    enrollments++;
+                    if (grade != null) {
+                        graded++;
+                        credits += catalog[c].credits();
+                        pointsX10 += catalog[c].credits() * Math.round(grade.getPoints() * 10);
+                    }
+                }
+                if (credits > 0) gpas.add(studentId, credits, pointsX10);
+            }
+        }
+        return new long[]{enrollments, graded};
+    }
+
+    private void updateSeats(Connection con, Course[] catalog) throws SQLException {
+        try (Batch batch = new Batch(con, "UPDATE courses SET seats_taken = ?, capacity = ? WHERE id = ?")) {
+            for (Course c : catalog) batch.add(c.taken()[0], Math.max(c.capacity(), c.taken()[0]), c.id());
+        }
+    }
+
+    private void insertUsers(Connection con, DatasetSpec spec) throws SQLException {
+        if (spec.getUsers() == 0) return;
+        // BCrypt salts from a seeded generator, so the hashes are as reproducible as the rest of the dataset
+        SecureRandom salts;
+        try {
+            salts = SecureRandom.getInstance("SHA1PRNG");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        salts.setSeed(spec.getSeed());
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(spec.getBcryptStrength(), salts);
+        String[] hashes = new String[Math.min(spec.getDistinctPasswords(), spec.getUsers())];
+        for (int p = 0; p < hashes.length; p++) hashes[p] = encoder.encode(spec.password(p));
+
+        try (Batch batch = new Batch(con, "INSERT INTO users (username, email, password, role, status) VALUES (?,?,?,?,'ACTIVE')")) {
+            for (int i = 0; i < spec.getUsers(); i++) {
+                Role role = i % 50 == 0 ? Role.INSTRUCTOR : Role.STUDENT;
+                String username = spec.username(i);
+                batch.add(username, username + "@example.edu", hashes[i % hashes.length], role.name());
+            }
+        }
+    }
+
+    /** Admins get random passwords: the other accounts' passwords follow from the spec and are not secret. */
+    private Map<String, String> insertAdmins(Connection con, DatasetSpec spec) throws SQLException {
+        Map<String, String> passwords = new LinkedHashMap<>();
+        if (spec.getAdmins() == 0) return passwords;
+        SecureRandom random = new SecureRandom();
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(spec.getBcryptStrength(), random);
+        try (Batch batch = new Batch(con, "INSERT INTO users (username, email, password, role, status) VALUES (?,?,?,?,'ACTIVE')")) {
+            for (int i = 0; i < spec.getAdmins(); i++) {
+                byte[] secret = new byte[18];
+                random.nextBytes(secret);
+                String password = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+                String username = spec.adminUsername(i);
+                batch.add(username, username + "@example.edu", encoder.encode(password), Role.ADMIN.name());
+                passwords.put(username, password);
+            }
+        }
+        return passwords;
+    }
+
+    private static void assertPrefixUnused(Connection con, DatasetSpec spec) throws SQLException {
+        String[][] checks = {
+                {"SELECT COUNT(*) FROM students WHERE index_number LIKE ? AND LENGTH(index_number) = "
+                        + studentIndex(spec, 0).length(), spec.getPrefix() + "%"},
+                {"SELECT COUNT(*) FROM courses WHERE code LIKE ?", spec.getPrefix() + "-%"},
+                {"SELECT COUNT(*) FROM users WHERE username LIKE ?", spec.getPrefix().toLowerCase() + "-%"}};
+        for (String[] check : checks) {
+            try (PreparedStatement ps = con.prepareStatement(check[0])) {
+                ps.setString(1, check[1]);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    if (rs.getLong(1) > 0)
+                        throw new IllegalStateException("Prefix already in use: " + spec.getPrefix());
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the enrollments_seq generator past a block of {@code n} ids and returns the first one. The block
+     * starts above both the highest existing id and the generator's current value, which bounds every id
+     * block a running application may still be handing out.
+     */
+    private long reserveEnrollmentIds(Connection con, long n) throws SQLException {
+        long maxId = single(con, "SELECT COALESCE(MAX(id), 0) FROM enrollments");
+        String product = con.getMetaData().getDatabaseProductName();
+        long start;
+        if (product.equalsIgnoreCase("H2")) {
+            long next = single(con, "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE LOWER(SEQUENCE_NAME) = 'enrollments_seq'");
+            start = Math.max(maxId, next) + 1;
+            try (Statement st = con.createStatement()) {
+                st.execute("ALTER SEQUENCE enrollments_seq RESTART WITH " + (start + n + SEQUENCE_INCREMENT));
+            }
+        } else if (product.equalsIgnoreCase("MySQL")) {
+            long next = single(con, "SELECT next_val FROM enrollments_seq FOR UPDATE");
+            start = Math.max(maxId, next) + 1;
+            try (PreparedStatement ps = con.prepareStatement("UPDATE enrollments_seq SET next_val = ?")) {
+                ps.setLong(1, start + n + SEQUENCE_INCREMENT);
+                ps.executeUpdate();
+            }
+        } else {
+            throw new IllegalStateException("Unsupported database for dataset generation: " + product);
+        }
+        con.commit(); // release the generator row before the long insert
+        return start;
+    }
+
+    private void refreshInMemoryState() {
+        studentIndex.ifAvailable(StudentSearchIndex::rebuild);
+        courseIndex.ifAvailable(CourseSuggestIndex::reload);
+        ranking.ifAvailable(GpaRankingService::invalidateAll);
+    }
+
+    static String studentIndex(DatasetSpec spec, int i) {
+        return String.format("%s%09d", spec.getPrefix(), i);
+    }
+
+    static String courseCode(DatasetSpec spec, int c) {
+        return String.format("%s-%05d", spec.getPrefix(), c);
+    }
+
+    /** Cumulative Zipf weights: course c (0-based) has weight 1 / (c + 1)^skew. */
+    static double[] zipfCdf(int n, double skew) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int c = 0; c < n; c++) cdf[c] = sum += 1 / Math.pow(c + 1, skew);
+        for (int c = 0; c < n; c++) cdf[c] /= sum;
+        return cdf;
+    }
+
+    private static double[] cdf(int[] weights) {
+        double[] cdf = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) cdf[i] = sum += weights[i];
+        for (int i = 0; i < weights.length; i++) cdf[i] /= sum;
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, Random random) {
+        int i = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(cdf.length - 1, i >= 0 ? i : -i - 1);
+    }
+
+    private static boolean contains(int[] values, int n, int value) {
+        for (int i = 0; i < n; i++) if (values[i] == value) return true;
+        return false;
+    }
+
+    private static long single(Connection con, String sql) throws SQLException {
+        try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            if (!rs.next()) throw new IllegalStateException("No result for: " + sql);
+            return rs.getLong(1);
+        }
+    }
+
+    private static long[] ids(Connection con, String sql, String like, int expected) throws SQLException {
+        long[] ids = new long[expected];
+        int n = 0;
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            ps.setString(1, like);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next() && n < expected) ids[n++] = rs.getLong(1);
+            }
+        }
+        if (n != expected) throw new IllegalStateException("Expected " + expected + " generated rows, found " + n);
+        return ids;
+    }
+
+    private record Course(long id, int credits, int capacity, int[] taken) {}
+
+    /** A prepared statement that executes every {@link #BATCH} rows and commits every {@link #COMMIT_EVERY}. */
+    private static final class Batch implements AutoCloseable {
+        private final Connection con;
+        private final PreparedStatement ps;
+        private int pending;
+        private int uncommitted;
+
+        Batch(Connection con, String sql) throws SQLException {
+            this.con = con;
+            this.ps = con.prepareStatement(sql);
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) ps.setObject(i + 1, values[i]);
+            ps.addBatch();
+            if (++pending == BATCH) flush();
+        }
+
+        private void flush() throws SQLException {
+            if (pending > 0) ps.executeBatch();
+            uncommitted += pending;
+            pending = 0;
+            if (uncommitted >= COMMIT_EVERY) {
+                con.commit();
+                uncommitted = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+                con.commit();
+            } finally {
+                ps.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.erp.universitycoursemanagement.dto;
+
+public class BatchEnrollmentRequest {
+    private Long studentId;
+    private Long courseId;
+
+    public BatchEnrollmentRequest() {}
+
+    public BatchEnrollmentRequest(Long studentId, Long courseId) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+    }
+
+    public Long getStudentId() { return studentId; }
+    public void setStudentId(Long studentId) { this.studentId = studentId; }
+
+    public Long getCourseId() { return courseId; }
+    public void setCourseId(Long courseId) { this.courseId = courseId; }
+}
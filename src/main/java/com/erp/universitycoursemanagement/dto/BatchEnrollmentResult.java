@@ -0,0 +1,39 @@
+package com.erp.universitycoursemanagement.dto;
+
+public class BatchEnrollmentResult {
+
+    public enum Outcome {
+        ENROLLED,
+        INVALID,
+        STUDENT_NOT_FOUND,
+        COURSE_NOT_FOUND,
+        ALREADY_ENROLLED,
+        COURSE_FULL
+    }
+
+    private Long studentId;
+    private Long courseId;
+    private Long enrollmentId;
+    private Outcome outcome;
+
+    public BatchEnrollmentResult() {}
+
+    public BatchEnrollmentResult(Long studentId, Long courseId, Long enrollmentId, Outcome outcome) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.enrollmentId = enrollmentId;
+        this.outcome = outcome;
+    }
+
+    public Long getStudentId() { return studentId; }
+    public void setStudentId(Long studentId) { this.studentId = studentId; }
+
+    public Long getCourseId() { return courseId; }
+    public void setCourseId(Long courseId) { this.courseId = courseId; }
+
+    public Long getEnrollmentId() { return enrollmentId; }
+    public void setEnrollmentId(Long enrollmentId) { this.enrollmentId = enrollmentId; }
+
+    public Outcome getOutcome() { return outcome; }
+    public void setOutcome(Outcome outcome) { this.outcome = outcome; }
+}
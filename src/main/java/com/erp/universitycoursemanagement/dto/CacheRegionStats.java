@@ -0,0 +1,29 @@
+package com.erp.universitycoursemanagement.dto;
+
+public class CacheRegionStats {
+    private final String region;
+    private final long hits;
+    private final long misses;
+    private final long puts;
+    private final long entries;
+
+    public CacheRegionStats(String region, long hits, long misses, long puts, long entries) {
+        this.region = region;
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+        this.entries = entries;
+    }
+
+    public String getRegion() { return region; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getPuts() { return puts; }
+    public long getEntries() { return entries; }
+
+    /** Hits over lookups since startup (or the last reset); 0 before the first lookup. */
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
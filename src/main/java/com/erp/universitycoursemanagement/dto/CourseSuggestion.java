@@ -0,0 +1,17 @@
+package com.erp.universitycoursemanagement.dto;
+
+public class CourseSuggestion {
+    private final Long id;
+    private final String code;
+    private final String title;
+
+    public CourseSuggestion(Long id, String code, String title) {
+        this.id = id;
+        this.code = code;
+        this.title = title;
+    }
+
+    public Long getId() { return id; }
+    public String getCode() { return code; }
+    public String getTitle() { return title; }
+}
@@ -0,0 +1,28 @@
+package com.erp.universitycoursemanagement.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/** One page of a keyset-paginated list; {@code nextCursor} is null on the last page. */
+public class CursorPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a page from a query that fetched up to {@code size + 1} rows: the extra row only tells
+     * whether another page exists and is dropped.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) return new CursorPage<>(fetched, null);
+        List<T> page = fetched.subList(0, size);
+        return new CursorPage<>(List.copyOf(page), cursorOf.apply(page.get(size - 1)));
+    }
+
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+}
@@ -0,0 +1,51 @@
+package com.erp.universitycoursemanagement.dto;
+
+import com.erp.universitycoursemanagement.model.Grade;
+
+import java.time.LocalDateTime;
+
+/** Flat, unmanaged row for exports; built by a JPQL constructor expression so nothing enters the persistence context. */
+public class EnrollmentExportRow {
+    private final Long enrollmentId;
+    private final Long studentId;
+    private final String indexNumber;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final Long courseId;
+    private final String courseCode;
+    private final String courseTitle;
+    private final int credits;
+    private final LocalDateTime enrolledAt;
+    private final Grade grade;
+
+    public EnrollmentExportRow(Long enrollmentId, Long studentId, String indexNumber, String firstName,
+                               String lastName, String email, Long courseId, String courseCode,
+                               String courseTitle, int credits, LocalDateTime enrolledAt, Grade grade) {
+        this.enrollmentId = enrollmentId;
+        this.studentId = studentId;
+        this.indexNumber = indexNumber;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.courseId = courseId;
+        this.courseCode = courseCode;
+        this.courseTitle = courseTitle;
+        this.credits = credits;
+        this.enrolledAt = enrolledAt;
+        this.grade = grade;
+    }
+
+    public Long getEnrollmentId() { return enrollmentId; }
+    public Long getStudentId() { return studentId; }
+    public String getIndexNumber() { return indexNumber; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public String getEmail() { return email; }
+    public Long getCourseId() { return courseId; }
+    public String getCourseCode() { return courseCode; }
+    public String getCourseTitle() { return courseTitle; }
+    public int getCredits() { return credits; }
+    public LocalDateTime getEnrolledAt() { return enrolledAt; }
+    public String getGrade() { return grade != null ? grade.getSymbol() : null; }
+}
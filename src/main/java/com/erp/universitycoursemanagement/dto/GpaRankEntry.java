@@ -0,0 +1,37 @@
+package com.erp.universitycoursemanagement.dto;
+
+/**
+ * One student's place in the GPA ranking. Students whose GPAs agree to three decimals share a rank;
+ * percentile is the share of ranked students with a lower GPA.
+ */
+public class GpaRankEntry {
+    private final int rank;
+    private final Long studentId;
+    private final String indexNumber;
+    private final String firstName;
+    private final String lastName;
+    private final double gpa;
+    private final int gradedCredits;
+    private final double percentile;
+
+    public GpaRankEntry(int rank, Long studentId, String indexNumber, String firstName, String lastName,
+                        double gpa, int gradedCredits, double percentile) {
+        this.rank = rank;
+        this.studentId = studentId;
+        this.indexNumber = indexNumber;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.gpa = gpa;
+        this.gradedCredits = gradedCredits;
+        this.percentile = percentile;
+    }
+
+    public int getRank() { return rank; }
+    public Long getStudentId() { return studentId; }
+    public String getIndexNumber() { return indexNumber; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public double getGpa() { return gpa; }
+    public int getGradedCredits() { return gradedCredits; }
+    public double getPercentile() { return percentile; }
+}
@@ -0,0 +1,21 @@
+package com.erp.universitycoursemanagement.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/** The best students by GPA plus the GPA at common percentiles of everyone with graded credits. */
+public class GpaRankReport {
+    private final int rankedStudents;
+    private final Map<String, Double> percentiles;
+    private final List<GpaRankEntry> top;
+
+    public GpaRankReport(int rankedStudents, Map<String, Double> percentiles, List<GpaRankEntry> top) {
+        this.rankedStudents = rankedStudents;
+        this.percentiles = percentiles;
+        this.top = top;
+    }
+
+    public int getRankedStudents() { return rankedStudents; }
+    public Map<String, Double> getPercentiles() { return percentiles; }
+    public List<GpaRankEntry> getTop() { return top; }
+}
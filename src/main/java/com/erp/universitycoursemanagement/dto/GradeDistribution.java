@@ -0,0 +1,56 @@
+package com.erp.universitycoursemanagement.dto;
+
+import com.erp.universitycoursemanagement.model.Grade;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/** Number of enrollments of one course per grade, in {@link Grade} order, plus those not graded yet. */
+public class GradeDistribution {
+    private static final Grade[] GRADES = Grade.values();
+
+    private final Long courseId;
+    private final String courseCode;
+    private final int[] counts; // indexed by Grade.ordinal()
+    private final int ungraded;
+
+    public GradeDistribution(Long courseId, String courseCode, int[] counts, int ungraded) {
+        if (counts.length != GRADES.length)
+            throw new IllegalArgumentException("Expected " + GRADES.length + " grade counts, got " + counts.length);
+        this.courseId = courseId;
+        this.courseCode = courseCode;
+        this.counts = counts.clone();
+        this.ungraded = ungraded;
+    }
+
+    public Long getCourseId() { return courseId; }
+    public String getCourseCode() { return courseCode; }
+    public int getUngraded() { return ungraded; }
+
+    public Map<Grade, Integer> getCounts() {
+        Map<Grade, Integer> m = new EnumMap<>(Grade.class);
+        for (Grade g : GRADES) m.put(g, counts[g.ordinal()]);
+        return m;
+    }
+
+    public int count(Grade g) { return counts[g.ordinal()]; }
+
+    public int getGraded() {
+        int n = 0;
+        for (int c : counts) n += c;
+        return n;
+    }
+
+    public int getEnrolled() { return getGraded() + ungraded; }
+
+    /** Unweighted mean grade points of the graded enrollments; 0 when none are graded. */
+    public double getMeanPoints() {
+        int n = 0;
+        double sum = 0;
+        for (Grade g : GRADES) {
+            n += counts[g.ordinal()];
+            sum += counts[g.ordinal()] * g.getPoints();
+        }
+        return n == 0 ? 0 : sum / n;
+    }
+}
@@ -0,0 +1,32 @@
+package com.erp.universitycoursemanagement.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public class SlowQuery {
+    private final Instant at;
+    private final long elapsedMs;
+    private final String sql;
+    private final List<String> params;
+    private final int batchSize;
+    private volatile String plan;
+
+    public SlowQuery(Instant at, long elapsedMs, String sql, List<String> params, int batchSize) {
+        this.at = at;
+        this.elapsedMs = elapsedMs;
+        this.sql = sql;
+        this.params = params;
+        this.batchSize = batchSize;
+    }
+
+    public Instant getAt() { return at; }
+    public long getElapsedMs() { return elapsedMs; }
+    public String getSql() { return sql; }
+    /** Bind values in parameter order; strings and binary values are redacted to their length. */
+    public List<String> getParams() { return params; }
+    /** Number of parameter sets for a batch execution (params shows the last one), 0 otherwise. */
+    public int getBatchSize() { return batchSize; }
+    /** EXPLAIN output for SELECTs, filled in shortly after the query is recorded; null until then or if unavailable. */
+    public String getPlan() { return plan; }
+    public void setPlan(String plan) { this.plan = plan; }
+}
@@ -1,7 +1,10 @@
 package com.erp.universitycoursemanagement.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
@@ -10,7 +13,10 @@ import lombok.*;
         uniqueConstraints = @UniqueConstraint(name = "uk_course_code", columnNames = "code"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Course.CACHE_REGION)
 public class Course {
+    public static final String CACHE_REGION = "course";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -28,6 +34,14 @@ public class Course {
     @Builder.Default
     private int capacity = 50;
 
+    // maintained only by the counter updates in CourseRepository, so a stale entity flush can't clobber it.
+    // Those updates bypass the second-level cache, so a cached Course may show a count up to the region TTL old;
+    // CourseRepository.findSeatsTaken reads the live value.
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private int seatsTaken = 0;
+
     public Long getId() {
         return id;
     }
@@ -67,4 +81,12 @@ public class Course {
     public void setCapacity(int capacity) {
         this.capacity = capacity;
     }
+
+    public int getSeatsTaken() {
+        return seatsTaken;
+    }
+
+    public void setSeatsTaken(int seatsTaken) {
+        this.seatsTaken = seatsTaken;
+    }
 }
\ No newline at end of file
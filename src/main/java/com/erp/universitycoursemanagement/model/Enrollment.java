@@ -7,10 +7,16 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "enrollments",
-        uniqueConstraints = @UniqueConstraint(name = "uk_student_course", columnNames = {"student_id","course_id"}))
+        uniqueConstraints = @UniqueConstraint(name = "uk_student_course", columnNames = {"student_id","course_id"}),
+        indexes = {
+                @Index(name = "idx_enrollment_student", columnList = "student_id, id"),
+                @Index(name = "idx_enrollment_course", columnList = "course_id, id")
+        })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Enrollment {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled sequence instead of IDENTITY so Hibernate can assign ids up front and batch the INSERTs
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollments_seq")
+    @SequenceGenerator(name = "enrollments_seq", sequenceName = "enrollments_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY) @JoinColumn(name = "student_id")
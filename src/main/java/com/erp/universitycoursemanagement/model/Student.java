@@ -1,5 +1,6 @@
 package com.erp.universitycoursemanagement.model;
 
+import com.erp.universitycoursemanagement.search.StudentIndexListener;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -7,9 +8,11 @@ import lombok.*;
 
 @Entity
 @Table(name = "students",
-        uniqueConstraints = @UniqueConstraint(name = "uk_student_index", columnNames = "indexNumber"))
+        uniqueConstraints = @UniqueConstraint(name = "uk_student_index", columnNames = "indexNumber"),
+        indexes = @Index(name = "idx_student_name", columnList = "lastName, firstName, id"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@EntityListeners(StudentIndexListener.class)
 public class Student {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
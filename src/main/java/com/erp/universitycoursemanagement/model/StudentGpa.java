@@ -0,0 +1,24 @@
+package com.erp.universitycoursemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Running GPA inputs for one student, maintained by GpaAggregateService on every grade change.
+ * Points are stored as credits x grade points x 10 so increments stay exact integers.
+ */
+@Entity
+@Table(name = "student_gpa")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class StudentGpa {
+    @Id
+    private Long studentId;
+
+    private int gradedCredits;
+
+    private long weightedPointsX10;
+
+    public double gpa() {
+        return gradedCredits == 0 ? 0.0 : weightedPointsX10 / 10.0 / gradedCredits;
+    }
+}
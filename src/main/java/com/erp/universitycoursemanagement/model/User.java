@@ -1,5 +1,6 @@
 package com.erp.universitycoursemanagement.model;
 
+import com.erp.universitycoursemanagement.security.UserChangeListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -13,6 +14,7 @@ import java.util.List;
 @Entity
 @Table(name = "users",
         uniqueConstraints = @UniqueConstraint(name = "uk_user_username", columnNames = "username"))
+@EntityListeners(UserChangeListener.class)
 public class User implements UserDetails {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,6 +35,10 @@ public class User implements UserDetails {
     @Enumerated(EnumType.STRING)
     private Status status = Status.ACTIVE;
 
+    // role as last read or written, so UserChangeListener can tell a role change from other updates
+    @Transient
+    private Role persistedRole;
+
     // Constructors
     public User() {}
 
@@ -121,6 +127,17 @@ public class User implements UserDetails {
         this.status = status;
     }
 
+    /** Whether the role differs from the one last loaded or saved. */
+    public boolean roleChanged() {
+        return persistedRole != null && persistedRole != role;
+    }
+
+    // entity listeners run first, so UserChangeListener still sees the previous role
+    @PostLoad @PostPersist @PostUpdate
+    void rememberPersistedRole() {
+        persistedRole = role;
+    }
+
     // Builder pattern
     public static UserBuilder builder() {
         return new UserBuilder();
@@ -0,0 +1,135 @@
+package com.erp.universitycoursemanagement.profiling;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Times every statement executed through connections of the wrapped DataSource and hands those over
+ * the threshold to {@link SlowQueryLog}, together with their SQL and bind values. The statement proxies
+ * only remember the bind values of the current execution; everything else passes straight through.
+ * {@code unwrap} reaches the target, so pool metrics and health checks still see the real pool.
+ */
+public class ProfilingDataSource extends DelegatingDataSource {
+
+    private final SlowQueryLog slowQueries;
+
+    public ProfilingDataSource(DataSource target, SlowQueryLog slowQueries) {
+        super(target);
+        this.slowQueries = slowQueries;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(target));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals": return proxy == args[0];
+                case "hashCode": return System.identityHashCode(proxy);
+                default: break;
+            }
+            Object result = ProfilingDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{method.getReturnType()},
+                        new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+        private final List<Object> params = new ArrayList<>();
+        private int batchSize;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) return execute(method, args);
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : bindable(args[1]));
+            } else if (name.equals("clearParameters")) {
+                params.clear();
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+            } else if (name.equals("clearBatch")) {
+                batchSize = 0;
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            return ProfilingDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return ProfilingDataSource.invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (slowQueries.isSlow(elapsed)) {
+                    boolean batch = method.getName().startsWith("executeBatch") || method.getName().startsWith("executeLargeBatch");
+                    String executed = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+                    if (executed != null)
+                        slowQueries.record(executed, new ArrayList<>(params), batch ? batchSize : 0, elapsed, getTargetDataSource());
+                }
+                if (method.getName().contains("Batch")) batchSize = 0;
+            }
+        }
+
+        private void bind(int index, Object value) {
+            while (params.size() < index) params.add(null);
+            params.set(index - 1, value);
+        }
+
+        private Object bindable(Object value) {
+            return value instanceof InputStream || value instanceof Reader || value instanceof Blob || value instanceof Clob
+                    ? SlowQueryLog.UNBINDABLE : value;
+        }
+    }
+}
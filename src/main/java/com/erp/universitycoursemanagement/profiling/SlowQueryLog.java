@@ -0,0 +1,152 @@
+package com.erp.universitycoursemanagement.profiling;
+
+import com.erp.universitycoursemanagement.dto.SlowQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The most recent statements that took longer than the threshold, newest first, in a fixed-size ring.
+ * <p>
+ * Bind values are kept only long enough to run EXPLAIN; the stored copy has strings and binary values
+ * replaced by their length, since they may be names, emails or password hashes. EXPLAIN runs for
+ * SELECTs on one background thread with its own connection and a short queue; when the queue is full
+ * (a burst of slow queries) the plan is skipped rather than adding load to a database that is already
+ * struggling.
+ */
+public class SlowQueryLog {
+
+    /** Marks a parameter that cannot be re-bound for EXPLAIN (streams, LOBs). */
+    static final Object UNBINDABLE = new Object();
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private final int capacity;
+    private final boolean explain;
+    private volatile long thresholdNanos;
+    private final ArrayDeque<SlowQuery> ring;
+    private long recorded;
+    private final ThreadPoolExecutor explainer;
+
+    public SlowQueryLog(int capacity, long thresholdMs, boolean explain) {
+        this.capacity = capacity;
+        this.explain = explain;
+        this.ring = new ArrayDeque<>(capacity);
+        setThresholdMs(thresholdMs);
+        this.explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16), r -> {
+            Thread t = new Thread(r, "slow-query-explain");
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public long getThresholdMs() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    public void setThresholdMs(long thresholdMs) {
+        if (thresholdMs < 0) throw new IllegalArgumentException("Threshold must not be negative");
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+    }
+
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /** Records a statement that ran over the threshold; {@code explainOn} must not be profiled itself. */
+    void record(String sql, List<Object> params, int batchSize, long elapsedNanos, DataSource explainOn) {
+        List<String> shown = new ArrayList<>(params.size());
+        for (Object p : params) shown.add(redact(p));
+        SlowQuery q = new SlowQuery(Instant.now(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql, shown, batchSize);
+        synchronized (ring) {
+            if (ring.size() == capacity) ring.pollLast();
+            ring.addFirst(q);
+            recorded++;
+        }
+        log.debug("Slow query ({} ms): {}", q.getElapsedMs(), sql);
+        if (explain && batchSize == 0 && isSelect(sql) && !params.contains(UNBINDABLE))
+            explainer.execute(() -> q.setPlan(explain(explainOn, sql, params)));
+    }
+
+    public List<SlowQuery> recent() {
+        synchronized (ring) {
+            return List.copyOf(ring);
+        }
+    }
+
+    /** Statements recorded since startup or the last {@link #clear()}, including those no longer in the ring. */
+    public long recordedCount() {
+        synchronized (ring) {
+            return recorded;
+        }
+    }
+
+    public void clear() {
+        synchronized (ring) {
+            ring.clear();
+            recorded = 0;
+        }
+    }
+
+    private static boolean isSelect(String sql) {
+        String s = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return s.startsWith("select") || s.startsWith("with");
+    }
+
+    private static String explain(DataSource ds, String sql, List<Object> params) {
+        try (Connection c = ds.getConnection(); PreparedStatement ps = c.prepareStatement("EXPLAIN " + sql)) {
+            c.setReadOnly(true);
+            for (int i = 0; i < params.size(); i++) ps.setObject(i + 1, params.get(i));
+            try (ResultSet rs = ps.executeQuery()) {
+                return format(rs);
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("EXPLAIN failed for {}", sql, e);
+            return "EXPLAIN failed: " + e.getMessage();
+        }
+    }
+
+    /** One line per plan row; multi-column plans (MySQL) are written as column=value pairs. */
+    private static String format(ResultSet rs) throws SQLException {
+        ResultSetMetaData md = rs.getMetaData();
+        StringBuilder out = new StringBuilder();
+        while (rs.next()) {
+            if (out.length() > 0) out.append('\n');
+            if (md.getColumnCount() == 1) {
+                out.append(rs.getString(1));
+                continue;
+            }
+            for (int i = 1; i <= md.getColumnCount(); i++) {
+                if (i > 1) out.append(", ");
+                out.append(md.getColumnLabel(i)).append('=').append(rs.getString(i));
+            }
+        }
+        return out.toString();
+    }
+
+    static String redact(Object value) {
+        if (value == null) return "NULL";
+        if (value == UNBINDABLE) return "<stream>";
+        if (value instanceof Number || value instanceof Boolean || value instanceof Date || value instanceof TemporalAccessor)
+            return value.toString();
+        if (value instanceof CharSequence s) return "<string:" + s.length() + ">";
+        if (value instanceof byte[] b) return "<bytes:" + b.length + ">";
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+}
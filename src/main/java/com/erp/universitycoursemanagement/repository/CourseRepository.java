@@ -1,11 +1,93 @@
 package com.erp.universitycoursemanagement.repository;
 
 import com.erp.universitycoursemanagement.model.Course;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CourseRepository extends JpaRepository<Course, Long>, CourseRepositoryCustom {
+    String BY_CODE_CACHE_REGION = "course-by-code";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BY_CODE_CACHE_REGION)
+    })
     Optional<Course> findByCode(String code);
     boolean existsByCode(String code);
+
+    // code is unique, so it alone is a stable seek key and uk_course_code serves the scan
+    List<Course> findAllByOrderByCodeAsc(Limit limit);
+    List<Course> findByCodeGreaterThanOrderByCodeAsc(String code, Limit limit);
+
+    /** (id, code) of every course in code order, without loading the entities. */
+    @Query("SELECT c.id, c.code FROM Course c ORDER BY c.code")
+    List<Object[]> findIdsAndCodes();
+
+    /**
+     * Query space the seat counters are declared to touch instead of {@code courses}. A JPQL bulk
+     * UPDATE on Course would clear the whole Course cache region and every cached course query on
+     * each enroll; the counters don't change anything the catalog cache serves except seatsTaken,
+     * which is allowed to lag (see Course).
+     */
+    String SEAT_COUNTER_SPACE = "course_seat_counters";
+
+    /**
+     * Takes one seat if the course still has room. The check and the increment are a single
+     * conditional UPDATE, so concurrent callers serialize on the course row and can never
+     * over-book. Returns 1 when a seat was taken, 0 when the course is full or missing.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SEAT_COUNTER_SPACE))
+    @Query(value = "UPDATE courses SET seats_taken = seats_taken + 1 WHERE id = :id AND seats_taken < capacity",
+            nativeQuery = true)
+    int reserveSeat(@Param("id") Long id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SEAT_COUNTER_SPACE))
+    @Query(value = "UPDATE courses SET seats_taken = seats_taken - 1 WHERE id = :id AND seats_taken > 0",
+            nativeQuery = true)
+    int releaseSeat(@Param("id") Long id);
+
+    /** Same guarantee as {@link #reserveSeat} for {@code n} seats at once. */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SEAT_COUNTER_SPACE))
+    @Query(value = "UPDATE courses SET seats_taken = seats_taken + :n WHERE id = :id AND seats_taken + :n <= capacity",
+            nativeQuery = true)
+    int reserveSeats(@Param("id") Long id, @Param("n") int n);
+
+    /** The live counter, bypassing the second-level cache. */
+    @Query("SELECT c.seatsTaken FROM Course c WHERE c.id = :id")
+    Optional<Integer> findSeatsTaken(@Param("id") Long id);
+
+    /**
+     * Locks one course. Grading and credit changes both take this lock first, so a GPA delta is never
+     * computed from credits that are being changed at the same time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Course c WHERE c.id = :id")
+    Optional<Course> findByIdForUpdate(@Param("id") Long id);
+
+    /** Locks the given courses in id order so concurrent batches can't deadlock each other. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Course c WHERE c.id IN :ids ORDER BY c.id")
+    List<Course> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Resets every counter from the enrollments table, e.g. after data was loaded outside the service.
+     * Deliberately JPQL: it clears the cached courses so they pick up the corrected counts.
+     */
+    @Modifying
+    @Query("UPDATE Course c SET c.seatsTaken = (SELECT COUNT(e) FROM Enrollment e WHERE e.course = c)")
+    int reconcileSeatsTaken();
 }
\ No newline at end of file
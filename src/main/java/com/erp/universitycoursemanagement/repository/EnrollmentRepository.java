@@ -1,16 +1,85 @@
 package com.erp.universitycoursemanagement.repository;
 
+import com.erp.universitycoursemanagement.dto.EnrollmentExportRow;
 import com.erp.universitycoursemanagement.model.Enrollment;
 import com.erp.universitycoursemanagement.model.Student;
 import com.erp.universitycoursemanagement.model.Course;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+    // student and course are LAZY; fetch them in the same SELECT so serializing a roster is one query
+    @EntityGraph(attributePaths = {"student", "course"})
     List<Enrollment> findByStudentId(Long studentId);
+    @EntityGraph(attributePaths = {"student", "course"})
     List<Enrollment> findByCourseId(Long courseId);
+    // keyset pages in enrollment id order, served by idx_enrollment_student / idx_enrollment_course
+    @EntityGraph(attributePaths = {"student", "course"})
+    List<Enrollment> findByStudentIdAndIdGreaterThanOrderByIdAsc(Long studentId, Long afterId, Limit limit);
+    @EntityGraph(attributePaths = {"student", "course"})
+    List<Enrollment> findByCourseIdAndIdGreaterThanOrderByIdAsc(Long courseId, Long afterId, Limit limit);
     Optional<Enrollment> findByStudentAndCourse(Student student, Course course);
+
+    @Query("SELECT e.course.id FROM Enrollment e WHERE e.id = :id")
+    Optional<Long> findCourseIdById(@Param("id") Long id);
+
+    /** Locked, so the grade a GPA delta starts from can't change before the transaction commits. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Enrollment e WHERE e.id = :id")
+    Optional<Enrollment> findByIdForUpdate(@Param("id") Long id);
     long countByCourseId(Long courseId);
+    long countByStudentId(Long studentId);
+    boolean existsByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    /** (studentId, courseId) pairs already enrolled, among the given students and courses. */
+    @Query("SELECT e.student.id, e.course.id FROM Enrollment e WHERE e.course.id IN :courseIds AND e.student.id IN :studentIds")
+    List<Object[]> findStudentCoursePairs(@Param("courseIds") Collection<Long> courseIds,
+                                          @Param("studentIds") Collection<Long> studentIds);
+
+    /** (studentId, grade, sum of credits) over all graded enrollments; source of truth for the GPA aggregate. */
+    @Query("SELECT e.student.id, e.grade, SUM(e.course.credits) FROM Enrollment e WHERE e.grade IS NOT NULL GROUP BY e.student.id, e.grade")
+    List<Object[]> sumGradedCredits();
+
+    @Query("SELECT e.grade, SUM(e.course.credits) FROM Enrollment e WHERE e.student.id = :studentId AND e.grade IS NOT NULL GROUP BY e.grade")
+    List<Object[]> sumGradedCreditsForStudent(@Param("studentId") Long studentId);
+
+    /** (grade, count) for one course; the row with a null grade counts the ungraded enrollments. */
+    @Query("SELECT e.grade, COUNT(e) FROM Enrollment e WHERE e.course.id = :courseId GROUP BY e.grade")
+    List<Object[]> countByGrade(@Param("courseId") Long courseId);
+
+    /** (courseId, grade, count) for every course with enrollments. */
+    @Query("SELECT e.course.id, e.grade, COUNT(e) FROM Enrollment e GROUP BY e.course.id, e.grade")
+    List<Object[]> countByCourseAndGrade();
+
+    @Query("SELECT e.course.id, e.grade, COUNT(e) FROM Enrollment e WHERE e.course.id IN :courseIds GROUP BY e.course.id, e.grade")
+    List<Object[]> countByCourseAndGrade(@Param("courseIds") Collection<Long> courseIds);
+
+    String EXPORT_ROW = """
+            SELECT new com.erp.universitycoursemanagement.dto.EnrollmentExportRow(
+                   e.id, s.id, s.indexNumber, s.firstName, s.lastName, s.email,
+                   c.id, c.code, c.title, c.credits, e.enrolledAt, e.grade)
+            FROM Enrollment e JOIN e.student s JOIN e.course c
+            """;
+
+    // forward-only cursors for exports; must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(EXPORT_ROW + " ORDER BY e.id")
+    Stream<EnrollmentExportRow> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(EXPORT_ROW + " WHERE c.id = :courseId ORDER BY s.lastName, s.firstName, s.id")
+    Stream<EnrollmentExportRow> streamByCourseId(@Param("courseId") Long courseId);
 }
\ No newline at end of file
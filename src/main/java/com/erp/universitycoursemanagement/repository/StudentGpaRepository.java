@@ -0,0 +1,53 @@
+package com.erp.universitycoursemanagement.repository;
+
+import com.erp.universitycoursemanagement.model.Grade;
+import com.erp.universitycoursemanagement.model.StudentGpa;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StudentGpaRepository extends JpaRepository<StudentGpa, Long> {
+
+    /**
+     * Adds the delta to the student's row, creating it on the student's first grade. One upsert, so two
+     * transactions grading a new student at once both land instead of racing to insert the same key.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_gpa"))
+    @Query(value = """
+            INSERT INTO student_gpa (student_id, graded_credits, weighted_pointsx10) VALUES (:studentId, :credits, :pointsX10)
+            ON DUPLICATE KEY UPDATE graded_credits = graded_credits + :credits, weighted_pointsx10 = weighted_pointsx10 + :pointsX10
+            """, nativeQuery = true)
+    void add(@Param("studentId") Long studentId, @Param("credits") int credits, @Param("pointsX10") long pointsX10);
+
+    /** Applies the same delta to every student holding {@code grade} in the course. */
+    @Modifying
+    @Query("""
+            UPDATE StudentGpa g SET g.gradedCredits = g.gradedCredits + :credits,
+                                    g.weightedPointsX10 = g.weightedPointsX10 + :pointsX10
+            WHERE g.studentId IN (SELECT e.student.id FROM Enrollment e WHERE e.course.id = :courseId AND e.grade = :grade)
+            """)
+    int addForCourseGrade(@Param("courseId") Long courseId, @Param("grade") Grade grade,
+                          @Param("credits") int credits, @Param("pointsX10") long pointsX10);
+
+    // scalar (studentId, gradedCredits, weightedPointsX10) rows: always the committed values, never a managed entity
+    @Query("SELECT g.studentId, g.gradedCredits, g.weightedPointsX10 FROM StudentGpa g WHERE g.gradedCredits > 0")
+    List<Object[]> findAllTotals();
+
+    @Query("SELECT g.studentId, g.gradedCredits, g.weightedPointsX10 FROM StudentGpa g WHERE g.studentId IN :ids")
+    List<Object[]> findTotals(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM StudentGpa g WHERE g.studentId = :studentId")
+    Optional<StudentGpa> findByIdForUpdate(@Param("studentId") Long studentId);
+}
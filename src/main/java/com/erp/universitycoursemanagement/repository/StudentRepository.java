@@ -1,11 +1,27 @@
 package com.erp.universitycoursemanagement.repository;
 
 import com.erp.universitycoursemanagement.model.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface StudentRepository extends JpaRepository<Student, Long>, StudentRepositoryCustom {
     Optional<Student> findByIndexNumber(String indexNumber);
     boolean existsByIndexNumber(String indexNumber);
+
+    @Query("SELECT s.id FROM Student s WHERE s.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /** (id, lastName, firstName, indexNumber, email) for loading the search index. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.id, s.lastName, s.firstName, s.indexNumber, s.email FROM Student s")
+    Stream<Object[]> streamSearchFields();
 }
\ No newline at end of file
@@ -5,4 +5,7 @@ import java.util.List;
 
 public interface StudentRepositoryCustom {
     List<Student> search(String q);
+
+    /** Up to {@code limit} students after the given (lastName, firstName, id) key; a null key starts at the top. */
+    List<Student> findPageAfter(String lastName, String firstName, Long id, int limit);
 }
\ No newline at end of file
@@ -25,4 +25,25 @@ public class StudentRepositoryImpl implements StudentRepositoryCustom {
                 .setParameter("q", like)
                 .getResultList();
     }
+
+    @Override
+    public List<Student> findPageAfter(String lastName, String firstName, Long id, int limit) {
+        if (lastName == null) {
+            return em.createQuery("SELECT s FROM Student s ORDER BY s.lastName, s.firstName, s.id", Student.class)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        // the leading >= gives the optimizer a plain range on idx_student_name; the OR chain is the exact seek
+        return em.createQuery("""
+                SELECT s FROM Student s
+                WHERE s.lastName >= :l
+                  AND (s.lastName > :l OR s.firstName > :f OR (s.firstName = :f AND s.id > :id))
+                ORDER BY s.lastName, s.firstName, s.id
+                """, Student.class)
+                .setParameter("l", lastName)
+                .setParameter("f", firstName)
+                .setParameter("id", id)
+                .setMaxResults(limit)
+                .getResultList();
+    }
 }
\ No newline at end of file
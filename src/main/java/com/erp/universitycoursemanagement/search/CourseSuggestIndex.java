@@ -0,0 +1,135 @@
+package com.erp.universitycoursemanagement.search;
+
+import com.erp.universitycoursemanagement.dto.CourseSuggestion;
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.support.AfterCommit;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Prefix typeahead over course codes and title words.
+ * <p>
+ * Keeps two sorted key arrays (codes, and every title token) in an immutable snapshot; a lookup is a
+ * binary search for the first key with the prefix followed by a scan that stops after {@code limit}
+ * distinct courses. Code matches come first, then title-word matches, each in key order. For
+ * multi-word queries every word must prefix some word of the title. The snapshot is rebuilt on
+ * every committed course change; the catalog is small enough that a full rebuild is cheap.
+ */
+@Component
+public class CourseSuggestIndex {
+
+    public static final int MAX_LIMIT = 50;
+    private static final int MAX_FILTER_SCAN = 4096;
+
+    private final CourseRepository courses;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+
+    public CourseSuggestIndex(CourseRepository courses) {
+        this.courses = courses;
+    }
+
+    private record Entry(CourseSuggestion course, String code, String[] tokens) {}
+
+    private record Snapshot(String[] codeKeys, Entry[] byCode, String[] tokenKeys, Entry[] byToken) {
+        static Snapshot build(Collection<Entry> entries) {
+            List<Map.Entry<String, Entry>> codes = new ArrayList<>(), tokens = new ArrayList<>();
+            for (Entry e : entries) {
+                codes.add(Map.entry(e.code(), e));
+                for (String t : new LinkedHashSet<>(Arrays.asList(e.tokens()))) tokens.add(Map.entry(t, e));
+            }
+            Comparator<Map.Entry<String, Entry>> order = Map.Entry.<String, Entry>comparingByKey()
+                    .thenComparing(m -> m.getValue().code());
+            codes.sort(order);
+            tokens.sort(order);
+            return new Snapshot(codes.stream().map(Map.Entry::getKey).toArray(String[]::new),
+                    codes.stream().map(Map.Entry::getValue).toArray(Entry[]::new),
+                    tokens.stream().map(Map.Entry::getKey).toArray(String[]::new),
+                    tokens.stream().map(Map.Entry::getValue).toArray(Entry[]::new));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        load(courses.findAll());
+    }
+
+    /** Replaces the whole index in one rebuild. */
+    public synchronized void load(Collection<Course> all) {
+        entries.clear();
+        for (Course c : all) entries.put(c.getId(), entry(c));
+        snapshot = Snapshot.build(entries.values());
+    }
+
+    /** Indexes the course once the surrounding transaction commits. */
+    public void put(Course c) {
+        Entry e = entry(c);
+        AfterCommit.run(() -> apply(c.getId(), e));
+    }
+
+    public void remove(Long id) {
+        AfterCommit.run(() -> apply(id, null));
+    }
+
+    private synchronized void apply(Long id, Entry e) {
+        if (e == null) entries.remove(id);
+        else entries.put(id, e);
+        snapshot = Snapshot.build(entries.values());
+    }
+
+    public List<CourseSuggestion> suggest(String q, int limit) {
+        String needle = q == null ? "" : q.trim().toLowerCase(Locale.ROOT);
+        String[] words = tokenize(needle);
+        if (needle.isEmpty() || words.length == 0) return List.of();
+        limit = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        Snapshot s = snapshot;
+        LinkedHashMap<Long, CourseSuggestion> out = new LinkedHashMap<>();
+        collect(s.codeKeys(), s.byCode(), needle, null, limit, out);
+        collect(s.tokenKeys(), s.byToken(), words[0], words.length > 1 ? words : null, limit, out);
+        return new ArrayList<>(out.values());
+    }
+
+    private static void collect(String[] keys, Entry[] values, String prefix, String[] allWords, int limit,
+                                Map<Long, CourseSuggestion> out) {
+        int i = lowerBound(keys, prefix);
+        for (int scanned = 0; i < keys.length && out.size() < limit && keys[i].startsWith(prefix); i++, scanned++) {
+            if (allWords != null && scanned >= MAX_FILTER_SCAN) return;
+            Entry e = values[i];
+            if (allWords == null || matchesAll(e.tokens(), allWords)) out.putIfAbsent(e.course().getId(), e.course());
+        }
+    }
+
+    private static boolean matchesAll(String[] tokens, String[] words) {
+        for (String w : words) {
+            boolean hit = false;
+            for (String t : tokens) if (t.startsWith(w)) { hit = true; break; }
+            if (!hit) return false;
+        }
+        return true;
+    }
+
+    private static int lowerBound(String[] keys, String prefix) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static Entry entry(Course c) {
+        String code = c.getCode() == null ? "" : c.getCode().toLowerCase(Locale.ROOT);
+        return new Entry(new CourseSuggestion(c.getId(), c.getCode(), c.getTitle()), code,
+                tokenize(c.getTitle() == null ? "" : c.getTitle().toLowerCase(Locale.ROOT)));
+    }
+
+    private static String[] tokenize(String s) {
+        return Arrays.stream(s.split("[^\\p{L}\\p{N}]+")).filter(t -> !t.isEmpty()).toArray(String[]::new);
+    }
+}
@@ -0,0 +1,39 @@
+package com.erp.universitycoursemanagement.search;
+
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.support.AfterCommit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA listener that mirrors Student writes into {@link StudentSearchIndex}. Changes are applied
+ * after commit so a rolled-back write never shows up in search. Created by Hibernate through
+ * Spring's bean container; the index is looked up lazily to avoid a cycle with the repository.
+ */
+public class StudentIndexListener {
+
+    private final ObjectProvider<StudentSearchIndex> index;
+
+    public StudentIndexListener(ObjectProvider<StudentSearchIndex> index) {
+        this.index = index;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void saved(Student s) {
+        Long id = s.getId();
+        String last = s.getLastName(), first = s.getFirstName(), number = s.getIndexNumber(), email = s.getEmail();
+        AfterCommit.run(() -> {
+            Student copy = Student.builder().id(id).lastName(last).firstName(first).indexNumber(number).email(email).build();
+            index.ifAvailable(i -> i.put(copy));
+        });
+    }
+
+    @PostRemove
+    public void removed(Student s) {
+        Long id = s.getId();
+        AfterCommit.run(() -> index.ifAvailable(i -> i.remove(id)));
+    }
+}
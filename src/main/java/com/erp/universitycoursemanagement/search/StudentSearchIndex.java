@@ -0,0 +1,99 @@
+package com.erp.universitycoursemanagement.search;
+
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Trigram index over student last name, first name, index number and email. Loaded once the
+ * application is ready and kept current by {@link StudentIndexListener}; until then searches
+ * fall back to the LIKE query in StudentRepositoryImpl. Changes that arrive while a rebuild reads the
+ * table are applied to the live index and replayed onto the new one before it takes over.
+ */
+@Component
+public class StudentSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentSearchIndex.class);
+
+    private final StudentRepository students;
+    private volatile TrigramIndex index = new TrigramIndex(4);
+    private volatile boolean ready;
+    private final Object rebuildLock = new Object();
+    // changes made while a rebuild streams the table; replayed onto the new index before it replaces the old one
+    private List<Consumer<TrigramIndex>> missed;
+
+    public StudentSearchIndex(StudentRepository students) {
+        this.students = students;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long t0 = System.nanoTime();
+            TrigramIndex fresh = new TrigramIndex(4);
+            synchronized (this) {
+                missed = new ArrayList<>();
+            }
+            try {
+                try (Stream<Object[]> rows = students.streamSearchFields()) {
+                    rows.forEach(r -> fresh.put((Long) r[0], (String) r[1], (String) r[2], (String) r[3], (String) r[4]));
+                }
+                synchronized (this) {
+                    missed.forEach(change -> change.accept(fresh));
+                    index = fresh;
+                }
+            } finally {
+                synchronized (this) {
+                    missed = null;
+                }
+            }
+            ready = true;
+            log.info("Student search index built: {} students in {} ms", fresh.size(), (System.nanoTime() - t0) / 1_000_000);
+        }
+    }
+
+    public void put(Student s) {
+        apply(i -> i.put(s.getId(), s.getLastName(), s.getFirstName(), s.getIndexNumber(), s.getEmail()));
+    }
+
+    public void remove(Long id) {
+        apply(i -> i.remove(id));
+    }
+
+    private synchronized void apply(Consumer<TrigramIndex> change) {
+        change.accept(index);
+        if (missed != null) missed.add(change);
+    }
+
+    /** Ranked page of students whose name, index number or email contains {@code q}. */
+    public Page<Student> search(String q, Pageable pageable) {
+        if (!ready) {
+            List<Student> all = students.search(q);
+            int from = (int) Math.min(pageable.getOffset(), all.size());
+            int to = Math.min(from + pageable.getPageSize(), all.size());
+            return new PageImpl<>(all.subList(from, to), pageable, all.size());
+        }
+        int limit = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+        TrigramIndex.Result result = index.search(q, limit);
+        List<Long> ids = result.hits().stream().skip(pageable.getOffset()).map(TrigramIndex.Hit::id).toList();
+        Map<Long, Student> byId = students.findAllById(ids).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+        List<Student> page = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(page, pageable, result.total());
+    }
+}
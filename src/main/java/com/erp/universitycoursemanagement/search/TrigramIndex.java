@@ -0,0 +1,224 @@
+package com.erp.universitycoursemanagement.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory substring index over a few text fields per document.
+ * <p>
+ * Every lower-cased field is split into trigrams; each trigram maps to a sorted list of document
+ * ordinals. A query of three or more characters intersects the postings of its trigrams and then
+ * verifies each candidate with {@code contains}, so results are exactly those of
+ * {@code LOWER(field) LIKE '%q%'}. Shorter queries fall back to a scan of the stored fields.
+ * <p>
+ * Matches are ranked by the best match kind over all fields (whole field, prefix, substring), with
+ * earlier fields winning ties, then by the fields themselves in declaration order and finally by id.
+ * Reads take a shared lock; updates are rare and take the exclusive lock.
+ */
+public class TrigramIndex {
+
+    private static final int EXACT = 3, PREFIX = 2, CONTAINS = 1;
+
+    private final int fieldCount;
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private long[] idByOrdinal = new long[1024];
+    private String[][] fieldsByOrdinal = new String[1024][];
+    private int nextOrdinal;
+    private final ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TrigramIndex(int fieldCount) {
+        this.fieldCount = fieldCount;
+    }
+
+    public record Hit(long id, int score) {}
+
+    public record Result(int total, List<Hit> hits) {}
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Adds or replaces a document. Null fields are indexed as empty. */
+    public void put(long id, String... fields) {
+        String[] normalized = normalize(fields);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int ord = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.poll();
+            ensureCapacity(ord);
+            idByOrdinal[ord] = id;
+            fieldsByOrdinal[ord] = normalized;
+            ordinalById.put(id, ord);
+            for (long gram : trigramsOf(normalized))
+                postings.computeIfAbsent(gram, g -> new Postings()).add(ord);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** The {@code limit} best matches for {@code q}, best first, plus the total number of matches. */
+    public Result search(String q, int limit) {
+        String needle = q == null ? "" : q.trim().toLowerCase(Locale.ROOT);
+        if (needle.isEmpty() || limit <= 0) return new Result(0, List.of());
+        lock.readLock().lock();
+        try {
+            List<Integer> matches = needle.length() < 3 ? scan(needle) : lookup(needle);
+            // max-heap on "worse first" keeps only the best `limit` hits without sorting every match
+            PriorityQueue<int[]> top = new PriorityQueue<>(Math.min(limit, matches.size()) + 1, (a, b) -> compare(b, a));
+            for (int ord : matches) {
+                top.add(new int[]{ord, score(fieldsByOrdinal[ord], needle)});
+                if (top.size() > limit) top.poll();
+            }
+            Hit[] hits = new Hit[top.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                int[] s = top.poll();
+                hits[i] = new Hit(idByOrdinal[s[0]], s[1]);
+            }
+            return new Result(matches.size(), List.of(hits));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Integer> lookup(String needle) {
+        List<Postings> lists = new ArrayList<>();
+        for (long gram : trigramsOf(new String[]{needle})) {
+            Postings p = postings.get(gram);
+            if (p == null) return List.of();
+            lists.add(p);
+        }
+        lists.sort(Comparator.comparingInt(p -> p.size));
+        Postings smallest = lists.get(0);
+        List<Integer> out = new ArrayList<>();
+        candidates:
+        for (int i = 0; i < smallest.size; i++) {
+            int ord = smallest.ords[i];
+            for (int j = 1; j < lists.size(); j++)
+                if (!lists.get(j).contains(ord)) continue candidates;
+            if (matchesAny(fieldsByOrdinal[ord], needle)) out.add(ord);
+        }
+        return out;
+    }
+
+    private List<Integer> scan(String needle) {
+        List<Integer> out = new ArrayList<>();
+        for (int ord : ordinalById.values())
+            if (matchesAny(fieldsByOrdinal[ord], needle)) out.add(ord);
+        return out;
+    }
+
+    private int compare(int[] a, int[] b) {
+        if (a[1] != b[1]) return Integer.compare(b[1], a[1]);
+        String[] fa = fieldsByOrdinal[a[0]], fb = fieldsByOrdinal[b[0]];
+        for (int f = 0; f < fieldCount; f++) {
+            int c = fa[f].compareTo(fb[f]);
+            if (c != 0) return c;
+        }
+        return Long.compare(idByOrdinal[a[0]], idByOrdinal[b[0]]);
+    }
+
+    /** Match kind in the high digits, preferring earlier fields for the same kind. */
+    private int score(String[] fields, String needle) {
+        int best = 0;
+        for (int f = 0; f < fields.length; f++) {
+            String v = fields[f];
+            int kind = v.equals(needle) ? EXACT : v.startsWith(needle) ? PREFIX : v.contains(needle) ? CONTAINS : 0;
+            if (kind > 0) best = Math.max(best, kind * 100 + (fieldCount - f));
+        }
+        return best;
+    }
+
+    private static boolean matchesAny(String[] fields, String needle) {
+        for (String v : fields) if (v.contains(needle)) return true;
+        return false;
+    }
+
+    private void removeLocked(long id) {
+        Integer ord = ordinalById.remove(id);
+        if (ord == null) return;
+        for (long gram : trigramsOf(fieldsByOrdinal[ord])) {
+            Postings p = postings.get(gram);
+            if (p != null && p.remove(ord) && p.size == 0) postings.remove(gram);
+        }
+        fieldsByOrdinal[ord] = null;
+        freeOrdinals.push(ord);
+    }
+
+    private void ensureCapacity(int ord) {
+        if (ord < idByOrdinal.length) return;
+        int n = Math.max(ord + 1, idByOrdinal.length * 2);
+        idByOrdinal = Arrays.copyOf(idByOrdinal, n);
+        fieldsByOrdinal = Arrays.copyOf(fieldsByOrdinal, n);
+    }
+
+    private String[] normalize(String[] fields) {
+        if (fields.length != fieldCount)
+            throw new IllegalArgumentException("Expected " + fieldCount + " fields, got " + fields.length);
+        String[] out = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++)
+            out[i] = fields[i] == null ? "" : fields[i].toLowerCase(Locale.ROOT);
+        return out;
+    }
+
+    private static Set<Long> trigramsOf(String[] fields) {
+        Set<Long> grams = new HashSet<>();
+        for (String v : fields)
+            for (int i = 0; i + 3 <= v.length(); i++)
+                grams.add(((long) v.charAt(i) << 32) | ((long) v.charAt(i + 1) << 16) | v.charAt(i + 2));
+        return grams;
+    }
+
+    /** Sorted, growable int set; ordinals are mostly appended in increasing order. */
+    private static final class Postings {
+        int[] ords = new int[4];
+        int size;
+
+        boolean contains(int ord) {
+            return Arrays.binarySearch(ords, 0, size, ord) >= 0;
+        }
+
+        void add(int ord) {
+            if (size > 0 && ords[size - 1] < ord) {
+                append(ord);
+                return;
+            }
+            int at = Arrays.binarySearch(ords, 0, size, ord);
+            if (at >= 0) return;
+            at = -at - 1;
+            if (size == ords.length) ords = Arrays.copyOf(ords, size * 2);
+            System.arraycopy(ords, at, ords, at + 1, size - at);
+            ords[at] = ord;
+            size++;
+        }
+
+        private void append(int ord) {
+            if (size == ords.length) ords = Arrays.copyOf(ords, size * 2);
+            ords[size++] = ord;
+        }
+
+        boolean remove(int ord) {
+            int at = Arrays.binarySearch(ords, 0, size, ord);
+            if (at < 0) return false;
+            System.arraycopy(ords, at + 1, ords, at, size - at - 1);
+            size--;
+            return true;
+        }
+    }
+}
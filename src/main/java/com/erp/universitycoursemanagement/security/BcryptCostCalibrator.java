@@ -0,0 +1,40 @@
+package com.erp.universitycoursemanagement.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Picks the BCrypt cost for this machine at startup: the highest cost whose hash still takes no longer
+ * than the target, within [min, max]. Each step doubles the work, so one cost is timed and the rest are
+ * extrapolated. Hashes stored at a lower cost are upgraded on the user's next successful login.
+ */
+public final class BcryptCostCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BcryptCostCalibrator.class);
+
+    private BcryptCostCalibrator() {}
+
+    public static int calibrate(long targetMs, int min, int max) {
+        if (min < 4 || max > 31 || min > max)
+            throw new IllegalArgumentException("need 4 <= min <= max <= 31, got " + min + ".." + max);
+        long nanos = time(min);
+        int cost = min;
+        while (cost < max && (nanos << (cost + 1 - min)) <= targetMs * 1_000_000L) cost++;
+        log.info("BCrypt cost {} (cost {} took {} ms here, target {} ms)", cost, min, nanos / 1_000_000, targetMs);
+        return cost;
+    }
+
+    /** Best of three after a warm-up round, so JIT and a cold CPU don't push the cost down. */
+    private static long time(int cost) {
+        String salt = BCrypt.gensalt(cost);
+        BCrypt.hashpw("calibration", salt);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
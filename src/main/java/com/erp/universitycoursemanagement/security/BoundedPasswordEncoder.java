@@ -0,0 +1,105 @@
+package com.erp.universitycoursemanagement.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs every hash and verification of the delegate on a small dedicated pool with a bounded queue, so a
+ * burst of logins can occupy at most {@code threads} CPUs and {@code threads + queueCapacity} request
+ * threads. Once the queue is full callers get a {@link PasswordHashingBusyException} straight away instead
+ * of waiting behind hashes that would finish long after the client gave up.
+ * <p>
+ * Upgrades of stored hashes to the current cost ({@link #upgradeEncoding}) are skipped while the queue is
+ * more than half full; they cost an extra hash and are simply retried on a later login.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final Counter rejected;
+    private final Timer queueTime;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        if (threads < 1 || queueCapacity < 1)
+            throw new IllegalArgumentException("threads and queueCapacity must be at least 1");
+        this.delegate = delegate;
+        this.queueCapacity = queueCapacity;
+        ThreadFactory names = new ThreadFactory() {
+            private int n;
+
+            @Override
+            public synchronized Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "password-hashing-" + ++n);
+                t.setDaemon(true);
+                return t;
+            }
+        };
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), names, new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.hashing.queued", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a hashing thread").register(Metrics.globalRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes being computed").register(Metrics.globalRegistry);
+        this.rejected = Counter.builder("auth.password.hashing.rejected")
+                .description("Hash requests refused because the queue was full").register(Metrics.globalRegistry);
+        this.queueTime = Timer.builder("auth.password.hashing.queue.time")
+                .description("Time a hash request waited for a hashing thread").register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword) && executor.getQueue().size() < queueCapacity / 2;
+    }
+
+    int queued() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T run(Supplier<T> hash) {
+        long submitted = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                queueTime.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return hash.get();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a password hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
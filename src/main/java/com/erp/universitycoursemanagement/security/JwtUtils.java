@@ -1,60 +1,140 @@
 package com.erp.universitycoursemanagement.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.erp.universitycoursemanagement.model.Role;
+import com.erp.universitycoursemanagement.model.Status;
+import com.erp.universitycoursemanagement.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtils {
-    
+
+    static final String ROLE_CLAIM = "role";
+    static final String STATUS_CLAIM = "status";
+
     @Value("${app.jwtSecret:UniversityCourseManagementSecretKeyForJWTSigningMustBe256BitsOrMore}")
     private String jwtSecret;
 
     @Value("${app.jwtExpirationMs:86400000}") // 24 hours
     private int jwtExpirationMs;
 
-    private SecretKey getSigningKey() {
+    @Value("${app.jwtCache.maxSize:10000}")
+    private int cacheMaxSize;
+
+    @Value("${app.jwtCache.maxTtlMs:600000}") // verified tokens are re-checked at least every 10 minutes
+    private long cacheMaxTtlMs;
+
+    // the key and parser are immutable and thread-safe, so build them once
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Cache<String, Claims> verified;
+
+    @PostConstruct
+    void init() {
         // Ensure the key is at least 256 bits (32 bytes)
         if (jwtSecret.getBytes().length < 32) {
             throw new IllegalArgumentException("JWT secret key must be at least 256 bits (32 characters) long");
         }
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        verified = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                        long ttlMs = cacheMaxTtlMs;
+                        if (claims.getExpiration() != null)
+                            ttlMs = Math.min(ttlMs, claims.getExpiration().getTime() - System.currentTimeMillis());
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, ttlMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
+    /** Embeds role and status for {@link User} principals so the token alone can authenticate a request. */
     public String generateJwtToken(UserDetails userPrincipal) {
-        return generateTokenFromUsername(userPrincipal.getUsername());
+        JwtBuilder builder = builder(userPrincipal.getUsername());
+        if (userPrincipal instanceof User user)
+            builder.claim(ROLE_CLAIM, user.getRole().name()).claim(STATUS_CLAIM, user.getStatus().name());
+        return builder.compact();
     }
 
     public String generateTokenFromUsername(String username) {
+        return builder(username).compact();
+    }
+
+    private JwtBuilder builder(String username) {
+        Date now = new Date();
         return Jwts.builder()
+                .id(UUID.randomUUID().toString()) // lets logout revoke this token alone
                 .subject(username)
-                .issuedAt(new Date())
-                .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey())
-                .compact();
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + jwtExpirationMs))
+                .signWith(signingKey);
+    }
+
+    /**
+     * The principal described by the role and status claims, or {@code null} for tokens that don't carry
+     * them. The result has no password or email; it is only good for authorization decisions.
+     */
+    public User getUserFromClaims(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class), status = claims.get(STATUS_CLAIM, String.class);
+        if (role == null || status == null) return null;
+        try {
+            return User.builder().username(claims.getSubject())
+                    .role(Role.valueOf(role)).status(Status.valueOf(status)).build();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Verifies the token once and returns its claims, or {@code null} if it is invalid or expired.
+     * Verified tokens are cached until they expire (bounded by app.jwtCache.*), so repeat requests
+     * with the same token skip the signature check.
+     */
+    public Claims getVerifiedClaims(String token) {
+        Claims claims = verified.getIfPresent(token);
+        if (claims != null) return claims;
+        claims = parseClaims(token);
+        if (claims != null) verified.put(token, claims);
+        return claims;
     }
 
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        Claims claims = getVerifiedClaims(token);
+        return claims != null ? claims.getSubject() : null;
     }
 
     public boolean validateJwtToken(String authToken) {
+        return getVerifiedClaims(authToken) != null;
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(authToken);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (MalformedJwtException e) {
             System.err.println("Invalid JWT token: " + e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -63,7 +143,9 @@ public class JwtUtils {
             System.err.println("JWT token is unsupported: " + e.getMessage());
         } catch (IllegalArgumentException e) {
             System.err.println("JWT claims string is empty: " + e.getMessage());
+        } catch (JwtException e) {
+            System.err.println("Invalid JWT signature: " + e.getMessage());
         }
-        return false;
+        return null;
     }
 }
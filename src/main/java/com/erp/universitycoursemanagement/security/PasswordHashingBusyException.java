@@ -0,0 +1,9 @@
+package com.erp.universitycoursemanagement.security;
+
+/** The password-hashing queue is full; the caller should answer 503 and let the client retry. */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("Too many sign-ins in progress, please retry shortly");
+    }
+}
@@ -0,0 +1,124 @@
+package com.erp.universitycoursemanagement.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tokens that must stop working before they expire: single tokens revoked on logout (keyed by jti)
+ * and every token of a user issued before a cut-off (deactivation or deletion).
+ * <p>
+ * Entries live in an exact map only until the tokens they cover would have expired anyway, so the set is
+ * bounded by the revocations of one token lifetime. A Bloom filter in front of the map answers the common
+ * "not revoked" case with one hash and a few array reads, without touching the map; a filter hit is
+ * confirmed against the map, so false positives cost a lookup but never reject a valid token. Revocations are rare and
+ * synchronized; checks are lock-free. The filter is rebuilt from the map when expired entries are swept.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final int HASHES = 7;
+
+    private final long tokenLifetimeMs;
+    private final int bits;
+    private final Map<String, Revocation> revoked = new ConcurrentHashMap<>();
+    private volatile AtomicLongArray filter;
+
+    private record Revocation(long issuedBeforeMs, long expiresAtMs) {}
+
+    public TokenRevocationList(@Value("${app.jwtExpirationMs:86400000}") long tokenLifetimeMs,
+                               @Value("${app.jwtRevocation.expectedEntries:100000}") int expectedEntries) {
+        this.tokenLifetimeMs = tokenLifetimeMs;
+        // ~1% false positives at the expected size: m = n * ln(1/p) / ln(2)^2 ~ 9.6 bits per entry
+        this.bits = (int) Math.min(Integer.MAX_VALUE - 64, Math.max(1024, (long) Math.ceil(expectedEntries * 9.6)));
+        this.filter = new AtomicLongArray((bits + 63) / 64);
+    }
+
+    /** Revokes one token until it expires. Tokens without a jti can only be revoked per user. */
+    public void revoke(Claims claims) {
+        if (claims.getId() == null) return;
+        long expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().getTime() : System.currentTimeMillis() + tokenLifetimeMs;
+        add("j:" + claims.getId(), new Revocation(Long.MAX_VALUE, expiresAt));
+    }
+
+    /** Revokes every token of {@code username} issued up to now. */
+    public void revokeUser(String username) {
+        long now = System.currentTimeMillis();
+        add("u:" + username, new Revocation(now, now + tokenLifetimeMs));
+    }
+
+    public boolean isRevoked(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        long issuedAtMs = issuedAt != null ? issuedAt.getTime() : 0;
+        return (claims.getId() != null && isRevoked("j:" + claims.getId(), issuedAtMs))
+                || (claims.getSubject() != null && isRevoked("u:" + claims.getSubject(), issuedAtMs));
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /** Drops entries whose tokens have expired and rebuilds the filter without them. */
+    @Scheduled(fixedDelayString = "${app.jwtRevocation.sweepMs:60000}")
+    public synchronized void sweep() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(r -> r.expiresAtMs() <= now);
+        AtomicLongArray rebuilt = new AtomicLongArray(filter.length());
+        for (String key : revoked.keySet()) set(rebuilt, key);
+        filter = rebuilt;
+    }
+
+    private synchronized void add(String key, Revocation revocation) {
+        // map first: a reader that sees the filter bits is guaranteed to find the entry
+        revoked.merge(key, revocation, (a, b) -> new Revocation(
+                Math.max(a.issuedBeforeMs(), b.issuedBeforeMs()), Math.max(a.expiresAtMs(), b.expiresAtMs())));
+        set(filter, key);
+    }
+
+    private boolean isRevoked(String key, long issuedAtMs) {
+        if (!mightContain(filter, key)) return false;
+        Revocation r = revoked.get(key);
+        // iat has second precision, so a token issued in the same second as the cut-off counts as before it
+        return r != null && r.expiresAtMs() > System.currentTimeMillis() && issuedAtMs <= r.issuedBeforeMs();
+    }
+
+    private void set(AtomicLongArray f, String key) {
+        long h = hash(key);
+        int h1 = (int) h, h2 = (int) (h >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bits);
+            // writers are serialized by the callers, the atomic array only publishes the bits to readers
+            f.set(bit >>> 6, f.get(bit >>> 6) | (1L << bit));
+        }
+    }
+
+    private boolean mightContain(AtomicLongArray f, String key) {
+        long h = hash(key);
+        int h1 = (int) h, h2 = (int) (h >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bits);
+            if ((f.get(bit >>> 6) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /** 64-bit FNV-1a with a final avalanche; the two halves drive double hashing. */
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
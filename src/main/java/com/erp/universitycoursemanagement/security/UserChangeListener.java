@@ -0,0 +1,51 @@
+package com.erp.universitycoursemanagement.security;
+
+import com.erp.universitycoursemanagement.config.CacheConfig;
+import com.erp.universitycoursemanagement.model.Status;
+import com.erp.universitycoursemanagement.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+/**
+ * Keeps authentication in step with the users table. Any change drops the user from this instance's
+ * user-details cache, so here a deactivated or demoted account stops authenticating as soon as the change
+ * commits; other instances hold their cached copy until app.userCache.ttlSeconds expires it. A deactivation,
+ * role change or delete also revokes the tokens already issued (again on this instance only), which
+ * stateless mode would otherwise keep honouring with the old role claim until they expire.
+ */
+public class UserChangeListener {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ObjectProvider<TokenRevocationList> revocations;
+
+    public UserChangeListener(ObjectProvider<CacheManager> cacheManager,
+                              ObjectProvider<TokenRevocationList> revocations) {
+        this.cacheManager = cacheManager;
+        this.revocations = revocations;
+    }
+
+    @PostUpdate
+    public void updated(User user) {
+        evict(user);
+        // revoked right away rather than after commit: a rolled-back deactivation only costs a re-login
+        if (user.getStatus() != Status.ACTIVE || user.roleChanged()) revocations.ifAvailable(r -> r.revokeUser(user.getUsername()));
+    }
+
+    @PostRemove
+    public void removed(User user) {
+        evict(user);
+        revocations.ifAvailable(r -> r.revokeUser(user.getUsername()));
+    }
+
+    private void evict(User user) {
+        cacheManager.ifAvailable(cm -> {
+            Cache cache = cm.getCache(CacheConfig.USER_DETAILS);
+            // the decorator defers the evict until after commit, so a concurrent reader can't re-cache the old row
+            if (cache != null) new TransactionAwareCacheDecorator(cache).evict(user.getUsername());
+        });
+    }
+}
@@ -4,6 +4,8 @@ import com.erp.universitycoursemanagement.dto.*;
 import com.erp.universitycoursemanagement.model.*;
 import com.erp.universitycoursemanagement.repository.UserRepository;
 import com.erp.universitycoursemanagement.security.JwtUtils;
+import com.erp.universitycoursemanagement.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -18,15 +20,18 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
+    private final TokenRevocationList revocations;
 
     public AuthService(AuthenticationManager authenticationManager,
                        UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       JwtUtils jwtUtils) {
+                       JwtUtils jwtUtils,
+                       TokenRevocationList revocations) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtils = jwtUtils;
+        this.revocations = revocations;
     }
 
     public AuthResponse login(LoginRequest loginRequest) {
@@ -46,6 +51,13 @@ public class AuthService {
                 userDetails.getRole().name());
     }
 
+    /** Revokes the presented token until it expires; invalid or missing tokens are ignored. */
+    public void logout(String jwt) {
+        Claims claims = jwt != null ? jwtUtils.getVerifiedClaims(jwt) : null;
+        if (claims != null) revocations.revoke(claims);
+        SecurityContextHolder.clearContext();
+    }
+
     public AuthResponse signup(SignupRequest signupRequest) {
         if (userRepository.existsByUsernameAndStatus(signupRequest.getUsername(), Status.ACTIVE)) {
             throw new RuntimeException("Error: Username is already taken!");
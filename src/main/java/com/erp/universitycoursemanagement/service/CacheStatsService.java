@@ -0,0 +1,43 @@
+package com.erp.universitycoursemanagement.service;
+
+import com.erp.universitycoursemanagement.dto.CacheRegionStats;
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/** Hit ratios of the Hibernate second-level cache regions, from Hibernate's statistics. */
+@Service
+public class CacheStatsService {
+
+    private final EntityManagerFactory emf;
+
+    public CacheStatsService(EntityManagerFactory emf) {
+        this.emf = emf;
+    }
+
+    public List<CacheRegionStats> regions() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        return List.of(
+                of(Course.CACHE_REGION, stats.getDomainDataRegionStatistics(Course.CACHE_REGION)),
+                of(CourseRepository.BY_CODE_CACHE_REGION, stats.getQueryRegionStatistics(CourseRepository.BY_CODE_CACHE_REGION)));
+    }
+
+    /** Drops every cached entity and query result, e.g. after the database was edited by hand. */
+    public void evictAll() {
+        emf.getCache().evictAll();
+        emf.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+
+    private static CacheRegionStats of(String region, CacheRegionStatistics s) {
+        // query regions are created lazily, on the first cacheable query
+        if (s == null) return new CacheRegionStats(region, 0, 0, 0, 0);
+        return new CacheRegionStats(region, s.getHitCount(), s.getMissCount(), s.getPutCount(),
+                Math.max(0, s.getElementCountInMemory()));
+    }
+}
@@ -1,36 +1,85 @@
 package com.erp.universitycoursemanagement.service;
 
+import com.erp.universitycoursemanagement.dto.CourseSuggestion;
+import com.erp.universitycoursemanagement.dto.CursorPage;
+import com.erp.universitycoursemanagement.dto.GradeDistribution;
 import com.erp.universitycoursemanagement.model.Course;
 import com.erp.universitycoursemanagement.repository.CourseRepository;
 import com.erp.universitycoursemanagement.repository.EnrollmentRepository;
+import com.erp.universitycoursemanagement.search.CourseSuggestIndex;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service @Transactional
 public class CourseService {
 
     private final CourseRepository courses;
     private final EnrollmentRepository enrollments;
+    private final GpaAggregateService gpa;
+    private final CourseSuggestIndex suggestIndex;
+    private final GradeDistributionService distributions;
 
-    public CourseService(CourseRepository courses, EnrollmentRepository enrollments) {
-        this.courses = courses; this.enrollments = enrollments;
+    public CourseService(CourseRepository courses, EnrollmentRepository enrollments, GpaAggregateService gpa,
+                         CourseSuggestIndex suggestIndex, GradeDistributionService distributions) {
+        this.courses = courses; this.enrollments = enrollments; this.gpa = gpa; this.suggestIndex = suggestIndex;
+        this.distributions = distributions;
     }
 
+    @Transactional(readOnly = true)
     public Page<Course> list(Pageable pageable) { return courses.findAll(pageable); }
-    public Course create(Course c) { return courses.save(c); }
 
+    /** Keyset page in code order. */
+    @Transactional(readOnly = true)
+    public CursorPage<Course> listAfter(String cursor, int size) {
+        String[] key = SeekCursor.decode("course", cursor, 1);
+        int n = SeekCursor.clampSize(size);
+        List<Course> rows = key == null
+                ? courses.findAllByOrderByCodeAsc(Limit.of(n + 1))
+                : courses.findByCodeGreaterThanOrderByCodeAsc(key[0], Limit.of(n + 1));
+        return CursorPage.of(rows, n, c -> SeekCursor.encode("course", c.getCode()));
+    }
+
+    @Transactional(readOnly = true)
+    public long count() { return courses.count(); }
+
+    public Course create(Course c) {
+        Course saved = courses.save(c);
+        suggestIndex.put(saved);
+        return saved;
+    }
+
+    // served from memory; don't start a transaction (and borrow a connection) per keystroke
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<CourseSuggestion> suggest(String q, int limit) { return suggestIndex.suggest(q, limit); }
+
+    @Transactional(readOnly = true)
     public Course get(Long id) {
         return courses.findById(id).orElseThrow(() -> new IllegalArgumentException("Course not found: " + id));
     }
 
+    @Transactional(readOnly = true)
+    public GradeDistribution gradeDistribution(Long id) { return distributions.forCourse(id); }
+
+    @Transactional(readOnly = true)
+    public List<GradeDistribution> gradeDistributions() { return distributions.forAllCourses(); }
+
     public Course update(Long id, Course c) {
-        Course e = get(id);
+        // locked: a grade committed between reading the old credits and the GPA adjustment would drift
+        Course e = courses.findByIdForUpdate(id).orElseThrow(() -> new IllegalArgumentException("Course not found: " + id));
+        gpa.creditsChanged(id, e.getCredits(), c.getCredits());
         e.setTitle(c.getTitle());
         e.setCode(c.getCode());
         e.setCredits(c.getCredits());
         e.setCapacity(c.getCapacity());
+        suggestIndex.put(e);
+        distributions.evict(id);
         return e;
     }
 
@@ -38,5 +87,15 @@ public class CourseService {
         if (enrollments.countByCourseId(id) > 0)
             throw new IllegalStateException("Cannot delete: students are enrolled");
         courses.deleteById(id);
+        suggestIndex.remove(id);
+        distributions.evict(id);
     }
+
+    /**
+     * Recounts every seat counter from the enrollments table. Off-peak only (app.seats.reconcileCron): the
+     * UPDATE locks every course while it runs and clears the cached courses, and the counters are kept exact
+     * by enroll and drop anyway; this only repairs rows written outside the services.
+     */
+    @Scheduled(cron = "${app.seats.reconcileCron:0 15 3 * * *}")
+    public void reconcileSeats() { courses.reconcileSeatsTaken(); }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.erp.universitycoursemanagement.service;
+
+import com.erp.universitycoursemanagement.dto.EnrollmentExportRow;
+import com.erp.universitycoursemanagement.repository.EnrollmentRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes enrollment data straight from a database cursor to the response stream, one row at a time,
+ * so memory use does not depend on the number of rows exported.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EnrollmentExportService {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) { this.contentType = contentType; this.extension = extension; }
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+    }
+
+    private static final String CSV_HEADER = "enrollment_id,student_id,index_number,first_name,last_name,email,"
+            + "course_id,course_code,course_title,credits,enrolled_at,grade";
+
+    private final EnrollmentRepository enrollments;
+    private final ObjectMapper mapper;
+
+    public EnrollmentExportService(EnrollmentRepository enrollments, ObjectMapper mapper) {
+        this.enrollments = enrollments;
+        this.mapper = mapper;
+    }
+
+    public void exportAll(Format format, OutputStream out) throws IOException {
+        try (Stream<EnrollmentExportRow> rows = enrollments.streamAll()) {
+            write(format, rows.iterator(), out);
+        }
+    }
+
+    public void exportCourse(Long courseId, Format format, OutputStream out) throws IOException {
+        try (Stream<EnrollmentExportRow> rows = enrollments.streamByCourseId(courseId)) {
+            write(format, rows.iterator(), out);
+        }
+    }
+
+    private void write(Format format, Iterator<EnrollmentExportRow> rows, OutputStream out) throws IOException {
+        if (format == Format.NDJSON) writeNdjson(rows, out);
+        else writeCsv(rows, out);
+    }
+
+    private void writeNdjson(Iterator<EnrollmentExportRow> rows, OutputStream out) throws IOException {
+        JsonGenerator gen = mapper.getFactory().createGenerator(out);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        gen.setRootValueSeparator(null);
+        while (rows.hasNext()) {
+            mapper.writeValue(gen, rows.next());
+            gen.writeRaw('\n');
+        }
+        gen.close();
+    }
+
+    private void writeCsv(Iterator<EnrollmentExportRow> rows, OutputStream out) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        w.write(CSV_HEADER);
+        w.write('\n');
+        while (rows.hasNext()) {
+            EnrollmentExportRow r = rows.next();
+            w.write(String.valueOf(r.getEnrollmentId())); w.write(',');
+            w.write(String.valueOf(r.getStudentId())); w.write(',');
+            csv(w, r.getIndexNumber()); w.write(',');
+            csv(w, r.getFirstName()); w.write(',');
+            csv(w, r.getLastName()); w.write(',');
+            csv(w, r.getEmail()); w.write(',');
+            w.write(String.valueOf(r.getCourseId())); w.write(',');
+            csv(w, r.getCourseCode()); w.write(',');
+            csv(w, r.getCourseTitle()); w.write(',');
+            w.write(Integer.toString(r.getCredits())); w.write(',');
+            if (r.getEnrolledAt() != null) w.write(r.getEnrolledAt().toString());
+            w.write(',');
+            csv(w, r.getGrade());
+            w.write('\n');
+        }
+        w.flush();
+    }
+
+    private static void csv(Writer w, String value) throws IOException {
+        if (value == null) return;
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            w.write(value);
+            return;
+        }
+        w.write('"');
+        w.write(value.replace("\"", "\"\""));
+        w.write('"');
+    }
+}
@@ -1,69 +1,201 @@
 package com.erp.universitycoursemanagement.service;
 
+import com.erp.universitycoursemanagement.dto.BatchEnrollmentRequest;
+import com.erp.universitycoursemanagement.dto.BatchEnrollmentResult;
+import com.erp.universitycoursemanagement.dto.BatchEnrollmentResult.Outcome;
+import com.erp.universitycoursemanagement.dto.CursorPage;
 import com.erp.universitycoursemanagement.model.*;
 import com.erp.universitycoursemanagement.repository.*;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
 
 @Service
 @Transactional
 public class EnrollmentService {
 
+    /** Every course of a batch stays locked until it commits, so batches are kept short. */
+    public static final int MAX_BATCH_ROWS = 1000;
+
     private final EnrollmentRepository enrollments;
     private final StudentRepository students;
     private final CourseRepository courses;
+    private final GpaAggregateService gpa;
+    private final GradeDistributionService distributions;
 
-    public EnrollmentService(EnrollmentRepository enrollments, StudentRepository students, CourseRepository courses) {
+    public EnrollmentService(EnrollmentRepository enrollments, StudentRepository students, CourseRepository courses,
+                             GpaAggregateService gpa, GradeDistributionService distributions) {
         this.enrollments = enrollments;
         this.students = students;
         this.courses = courses;
+        this.gpa = gpa;
+        this.distributions = distributions;
     }
 
     public Enrollment enroll(Long studentId, Long courseId) {
         Student s = students.findById(studentId)
                 .orElseThrow(() -> new IllegalArgumentException("Student not found: " + studentId));
-        Course c = courses.findById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("Course not found: " + courseId));
 
-        if (enrollments.countByCourseId(courseId) >= c.getCapacity())
-            throw new IllegalStateException("Course capacity reached");
+        if (enrollments.existsByStudentIdAndCourseId(studentId, courseId))
+            throw new IllegalStateException("Already enrolled");
 
-        enrollments.findByStudentAndCourse(s, c)
-                .ifPresent(e -> { throw new IllegalStateException("Already enrolled"); });
+        // Seat is taken atomically; any failure below rolls the increment back with the transaction.
+        if (courses.reserveSeat(courseId) == 0) {
+            if (!courses.existsById(courseId))
+                throw new IllegalArgumentException("Course not found: " + courseId);
+            throw new IllegalStateException("Course capacity reached");
+        }
+        Course c = courses.findById(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("Course not found: " + courseId));
 
         Enrollment e = new Enrollment();
         e.setStudent(s);
         e.setCourse(c);
         e.setEnrolledAt(LocalDateTime.now());
+        distributions.evict(courseId);
         return enrollments.save(e);
     }
 
+    /**
+     * Enrolls many (student, course) pairs in one transaction: one lookup for students, one locking
+     * read for the courses, one read of existing pairs, one capacity update per course and batched
+     * INSERTs. Rows are accepted in request order until a course is full; every row gets a result.
+     * At most {@link #MAX_BATCH_ROWS} rows.
+     */
+    public List<BatchEnrollmentResult> enrollBatch(List<BatchEnrollmentRequest> rows) {
+        if (rows.size() > MAX_BATCH_ROWS)
+            throw new IllegalArgumentException("At most " + MAX_BATCH_ROWS + " rows per batch, got " + rows.size());
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> courseIds = new HashSet<>();
+        for (BatchEnrollmentRequest r : rows) {
+            if (r.getStudentId() != null) studentIds.add(r.getStudentId());
+            if (r.getCourseId() != null) courseIds.add(r.getCourseId());
+        }
+        if (courseIds.isEmpty() || studentIds.isEmpty())
+            return rows.stream().map(r -> result(r, null, Outcome.INVALID)).toList();
+
+        Set<Long> knownStudents = new HashSet<>(students.findExistingIds(studentIds));
+        Map<Long, Course> lockedCourses = new HashMap<>();
+        for (Course c : courses.findAllByIdForUpdate(courseIds)) lockedCourses.put(c.getId(), c);
+
+        Set<List<Long>> taken = new HashSet<>();
+        if (!knownStudents.isEmpty() && !lockedCourses.isEmpty())
+            for (Object[] pair : enrollments.findStudentCoursePairs(lockedCourses.keySet(), knownStudents))
+                taken.add(List.of((Long) pair[0], (Long) pair[1]));
+
+        Map<Long, Integer> freeSeats = new HashMap<>();
+        lockedCourses.values().forEach(c -> freeSeats.put(c.getId(), Math.max(0, c.getCapacity() - c.getSeatsTaken())));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BatchEnrollmentResult> results = new ArrayList<>(rows.size());
+        List<Enrollment> toInsert = new ArrayList<>();
+        List<BatchEnrollmentResult> inserted = new ArrayList<>();
+        Map<Long, Integer> seatsUsed = new HashMap<>();
+        for (BatchEnrollmentRequest r : rows) {
+            Outcome outcome;
+            if (r.getStudentId() == null || r.getCourseId() == null) outcome = Outcome.INVALID;
+            else if (!knownStudents.contains(r.getStudentId())) outcome = Outcome.STUDENT_NOT_FOUND;
+            else if (!lockedCourses.containsKey(r.getCourseId())) outcome = Outcome.COURSE_NOT_FOUND;
+            else if (!taken.add(List.of(r.getStudentId(), r.getCourseId()))) outcome = Outcome.ALREADY_ENROLLED;
+            else if (freeSeats.merge(r.getCourseId(), -1, Integer::sum) < 0) outcome = Outcome.COURSE_FULL;
+            else outcome = Outcome.ENROLLED;
+
+            BatchEnrollmentResult res = result(r, null, outcome);
+            results.add(res);
+            if (outcome == Outcome.ENROLLED) {
+                Enrollment e = new Enrollment();
+                e.setStudent(students.getReferenceById(r.getStudentId()));
+                e.setCourse(lockedCourses.get(r.getCourseId()));
+                e.setEnrolledAt(now);
+                toInsert.add(e);
+                inserted.add(res);
+                seatsUsed.merge(r.getCourseId(), 1, Integer::sum);
+            }
+        }
+
+        seatsUsed.forEach((courseId, n) -> {
+            if (courses.reserveSeats(courseId, n) == 0)
+                throw new IllegalStateException("Course capacity changed during batch: " + courseId);
+            distributions.evict(courseId);
+        });
+        List<Enrollment> saved = enrollments.saveAll(toInsert);
+        for (int i = 0; i < saved.size(); i++) inserted.get(i).setEnrollmentId(saved.get(i).getId());
+        return results;
+    }
+
+    private static BatchEnrollmentResult result(BatchEnrollmentRequest r, Long enrollmentId, Outcome outcome) {
+        return new BatchEnrollmentResult(r.getStudentId(), r.getCourseId(), enrollmentId, outcome);
+    }
+
     public Enrollment grade(Long enrollmentId, Grade grade) {
-        Enrollment e = enrollments.findById(enrollmentId)
+        Enrollment e = lockForRegrade(enrollmentId)
                 .orElseThrow(() -> new IllegalArgumentException("Enrollment not found: " + enrollmentId));
+        gpa.regraded(e.getStudent().getId(), e.getCourse().getCredits(), e.getGrade(), grade);
         e.setGrade(grade);
+        distributions.evict(e.getCourse().getId());
         return e;
     }
 
+    @Transactional(readOnly = true)
     public List<Enrollment> byStudent(Long studentId) { return enrollments.findByStudentId(studentId); }
+    @Transactional(readOnly = true)
     public List<Enrollment> byCourse(Long courseId) { return enrollments.findByCourseId(courseId); }
-    public void drop(Long enrollmentId) { enrollments.deleteById(enrollmentId); }
 
+    /** Keyset pages of a student's or a course's enrollments, in enrollment id order. */
+    @Transactional(readOnly = true)
+    public CursorPage<Enrollment> byStudentAfter(Long studentId, String cursor, int size) {
+        int n = SeekCursor.clampSize(size);
+        List<Enrollment> rows = enrollments.findByStudentIdAndIdGreaterThanOrderByIdAsc(
+                studentId, afterId("enrollment-s", cursor), Limit.of(n + 1));
+        return CursorPage.of(rows, n, e -> SeekCursor.encode("enrollment-s", e.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Enrollment> byCourseAfter(Long courseId, String cursor, int size) {
+        int n = SeekCursor.clampSize(size);
+        List<Enrollment> rows = enrollments.findByCourseIdAndIdGreaterThanOrderByIdAsc(
+                courseId, afterId("enrollment-c", cursor), Limit.of(n + 1));
+        return CursorPage.of(rows, n, e -> SeekCursor.encode("enrollment-c", e.getId()));
+    }
+
+    private static long afterId(String kind, String cursor) {
+        String[] key = SeekCursor.decode(kind, cursor, 1);
+        return key == null ? 0 : SeekCursor.parseId(key[0]);
+    }
+
+    @Transactional(readOnly = true)
+    public long countByStudent(Long studentId) { return enrollments.countByStudentId(studentId); }
+
+    @Transactional(readOnly = true)
+    public long countByCourse(Long courseId) { return enrollments.countByCourseId(courseId); }
+
+    public void drop(Long enrollmentId) {
+        lockForRegrade(enrollmentId).ifPresent(e -> {
+            if (e.getGrade() != null)
+                gpa.regraded(e.getStudent().getId(), e.getCourse().getCredits(), e.getGrade(), null);
+            enrollments.delete(e);
+            courses.releaseSeat(e.getCourse().getId());
+            distributions.evict(e.getCourse().getId());
+        });
+    }
+
+    /**
+     * The enrollment, locked after its course (the order CourseService.update takes the course lock in), so
+     * neither the old grade nor the credits that the GPA delta is computed from can change under a concurrent
+     * grade, drop or credit change.
+     */
+    private Optional<Enrollment> lockForRegrade(Long enrollmentId) {
+        Optional<Long> courseId = enrollments.findCourseIdById(enrollmentId);
+        if (courseId.isEmpty()) return Optional.empty();
+        courses.findByIdForUpdate(courseId.get());
+        return enrollments.findByIdForUpdate(enrollmentId);
+    }
+
+    @Transactional(readOnly = true)
     public double gpaForStudent(Long studentId) {
-        List<Enrollment> list = byStudent(studentId);
-        int totalCredits = list.stream()
-                .filter(e -> e.getGrade() != null)
-                .mapToInt(e -> e.getCourse().getCredits())
-                .sum();
-        if (totalCredits == 0) return 0.0;
-
-        double totalPoints = list.stream()
-                .filter(e -> e.getGrade() != null)
-                .mapToDouble(e -> e.getCourse().getCredits() * e.getGrade().getPoints())
-                .sum();
-        return totalPoints / totalCredits;
+        return gpa.gpa(studentId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.erp.universitycoursemanagement.service;
+
+import com.erp.universitycoursemanagement.model.Grade;
+import com.erp.universitycoursemanagement.model.StudentGpa;
+import com.erp.universitycoursemanagement.repository.EnrollmentRepository;
+import com.erp.universitycoursemanagement.repository.StudentGpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Keeps {@link StudentGpa} in step with enrollment grades so a GPA read is a single-row lookup.
+ * Callers apply deltas inside their own transaction; {@link #rebuild()} recomputes everything
+ * from the enrollments table and repairs any student whose aggregate has drifted.
+ */
+@Service
+public class GpaAggregateService {
+
+    private static final Logger log = LoggerFactory.getLogger(GpaAggregateService.class);
+
+    private final StudentGpaRepository gpas;
+    private final EnrollmentRepository enrollments;
+    private final TransactionTemplate tx;
+    private final GpaRankingService ranking;
+
+    public GpaAggregateService(StudentGpaRepository gpas, EnrollmentRepository enrollments,
+                               PlatformTransactionManager transactionManager, GpaRankingService ranking) {
+        this.gpas = gpas;
+        this.enrollments = enrollments;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.ranking = ranking;
+    }
+
+    static long pointsX10(Grade g) {
+        return g == null ? 0 : Math.round(g.getPoints() * 10);
+    }
+
+    @Transactional(readOnly = true)
+    public double gpa(Long studentId) {
+        return gpas.findById(studentId).map(StudentGpa::gpa).orElse(0.0);
+    }
+
+    /** Moves one enrollment of {@code credits} from grade {@code from} to {@code to}; either may be null. */
+    @Transactional
+    public void regraded(Long studentId, int credits, Grade from, Grade to) {
+        if (from == to) return;
+        int dc = (to != null ? credits : 0) - (from != null ? credits : 0);
+        long dp = credits * (pointsX10(to) - pointsX10(from));
+        gpas.add(studentId, dc, dp);
+        ranking.changed(studentId);
+    }
+
+    @Transactional
+    public void creditsChanged(Long courseId, int oldCredits, int newCredits) {
+        int delta = newCredits - oldCredits;
+        if (delta == 0) return;
+        for (Grade g : Grade.values())
+            gpas.addForCourseGrade(courseId, g, delta, delta * pointsX10(g));
+        ranking.invalidateAll();
+    }
+
+    @Transactional
+    public void remove(Long studentId) {
+        gpas.findById(studentId).ifPresent(gpas::delete);
+        ranking.changed(studentId);
+    }
+
+    /**
+     * Compares every stored aggregate with one GROUP BY over the enrollments and repairs the
+     * drifted students, each in its own short transaction under a row lock. Returns the number
+     * of students that were repaired. Runs off-peak only (app.gpa.rebuildCron), not at startup: the full
+     * scan would compete with the first requests, and the schema migration already backfilled the table.
+     */
+    @Scheduled(cron = "${app.gpa.rebuildCron:0 30 3 * * *}")
+    public int rebuild() {
+        Map<Long, StudentGpa> expected = new HashMap<>();
+        for (Object[] row : enrollments.sumGradedCredits()) {
+            StudentGpa g = expected.computeIfAbsent((Long) row[0], id -> new StudentGpa(id, 0, 0));
+            accumulate(g, (Grade) row[1], ((Number) row[2]).intValue());
+        }
+
+        Set<Long> drifted = new HashSet<>();
+        for (StudentGpa stored : gpas.findAll()) {
+            StudentGpa want = expected.remove(stored.getStudentId());
+            if (want == null ? stored.getGradedCredits() != 0 || stored.getWeightedPointsX10() != 0 : !same(stored, want))
+                drifted.add(stored.getStudentId());
+        }
+        drifted.addAll(expected.keySet());
+
+        drifted.forEach(id -> tx.executeWithoutResult(status -> repair(id)));
+        if (!drifted.isEmpty()) {
+            log.warn("GPA aggregate drift repaired for {} students", drifted.size());
+            ranking.invalidateAll();
+        }
+        return drifted.size();
+    }
+
+    private void repair(Long studentId) {
+        StudentGpa g = gpas.findByIdForUpdate(studentId).orElseGet(() -> new StudentGpa(studentId, 0, 0));
+        g.setGradedCredits(0);
+        g.setWeightedPointsX10(0);
+        for (Object[] row : enrollments.sumGradedCreditsForStudent(studentId))
+            accumulate(g, (Grade) row[0], ((Number) row[1]).intValue());
+        gpas.save(g);
+    }
+
+    private static void accumulate(StudentGpa g, Grade grade, int credits) {
+        g.setGradedCredits(g.getGradedCredits() + credits);
+        g.setWeightedPointsX10(g.getWeightedPointsX10() + credits * pointsX10(grade));
+    }
+
+    private static boolean same(StudentGpa a, StudentGpa b) {
+        return a.getGradedCredits() == b.getGradedCredits() && a.getWeightedPointsX10() == b.getWeightedPointsX10();
+    }
+}
@@ -0,0 +1,199 @@
+package com.erp.universitycoursemanagement.service;
+
+import com.erp.universitycoursemanagement.dto.GpaRankEntry;
+import com.erp.universitycoursemanagement.dto.GpaRankReport;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.StudentGpaRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.erp.universitycoursemanagement.support.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class rank and percentiles over every student with graded credits, kept in memory and fed from the
+ * {@code student_gpa} aggregate. The first report loads all totals in one query; after that a grade change
+ * only marks its student, and the next report re-reads the marked students' rows. Course credit changes
+ * and drift repairs affect many students and trigger a full reload instead.
+ * <p>
+ * Grade changes are only seen by the instance that committed them. Changes made on other instances (or
+ * written outside the services) show up with the next full reload, which happens at the latest
+ * app.gpaRanking.refreshSeconds after the previous one.
+ * <p>
+ * GPAs are bucketed to 0.001 in a Fenwick tree, so rank, percentile and percentile GPAs are O(log buckets);
+ * the top N comes from one pass over the totals with a bounded heap.
+ */
+@Service
+public class GpaRankingService {
+
+    public static final int MAX_TOP = 1000;
+    private static final int BUCKETS = 4001; // GPA 0.000 .. 4.000
+    private static final int[] PERCENTILES = {25, 50, 75, 90, 99};
+
+    private final StudentGpaRepository gpas;
+    private final StudentRepository students;
+    private final long maxAgeNanos;
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private volatile boolean stale = true;
+
+    // guarded by this
+    private long loadedAt;
+    private final Map<Long, Totals> totals = new HashMap<>();
+    private final Fenwick buckets = new Fenwick(BUCKETS);
+
+    public GpaRankingService(StudentGpaRepository gpas, StudentRepository students,
+                             @Value("${app.gpaRanking.refreshSeconds:60}") long refreshSeconds) {
+        this.gpas = gpas;
+        this.students = students;
+        this.maxAgeNanos = TimeUnit.SECONDS.toNanos(refreshSeconds);
+    }
+
+    /** Re-reads the student's totals on the next report, once the current transaction commits. */
+    public void changed(Long studentId) {
+        AfterCommit.run(() -> dirty.add(studentId));
+    }
+
+    /** Reloads all totals on the next report, once the current transaction commits. */
+    public void invalidateAll() {
+        AfterCommit.run(() -> stale = true);
+    }
+
+    public GpaRankReport top(int n) {
+        int limit = Math.max(1, Math.min(n, MAX_TOP));
+        List<Totals> best;
+        int ranked;
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        List<int[]> ranks = new ArrayList<>();
+        synchronized (this) {
+            refresh();
+            ranked = totals.size();
+            PriorityQueue<Totals> heap = new PriorityQueue<>(limit + 1, Totals.BETTER_FIRST.reversed());
+            for (Totals t : totals.values()) {
+                heap.add(t);
+                if (heap.size() > limit) heap.poll();
+            }
+            best = new ArrayList<>(heap);
+            best.sort(Totals.BETTER_FIRST);
+            for (Totals t : best) ranks.add(new int[]{rank(t), below(t)});
+            if (ranked > 0)
+                for (int p : PERCENTILES)
+                    percentiles.put("p" + p, buckets.lowerBound((int) Math.ceil(ranked * p / 100.0)) / 1000.0);
+        }
+
+        Map<Long, Student> names = new HashMap<>();
+        students.findAllById(best.stream().map(Totals::studentId).toList()).forEach(s -> names.put(s.getId(), s));
+        List<GpaRankEntry> entries = new ArrayList<>(best.size());
+        for (int i = 0; i < best.size(); i++)
+            entries.add(entry(best.get(i), names.get(best.get(i).studentId()), ranks.get(i), ranked));
+        return new GpaRankReport(ranked, percentiles, entries);
+    }
+
+    public GpaRankEntry forStudent(Long studentId) {
+        Student s = students.findById(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("Student not found: " + studentId));
+        Totals t;
+        int[] rank;
+        int ranked;
+        synchronized (this) {
+            refresh();
+            t = totals.get(studentId);
+            if (t == null) throw new IllegalStateException("Student has no graded credits: " + studentId);
+            rank = new int[]{rank(t), below(t)};
+            ranked = totals.size();
+        }
+        return entry(t, s, rank, ranked);
+    }
+
+    private static GpaRankEntry entry(Totals t, Student s, int[] rank, int ranked) {
+        return new GpaRankEntry(rank[0], t.studentId(),
+                s == null ? null : s.getIndexNumber(), s == null ? null : s.getFirstName(), s == null ? null : s.getLastName(),
+                t.gpa(), t.credits(), 100.0 * rank[1] / ranked);
+    }
+
+    private int rank(Totals t) {
+        return totals.size() - buckets.prefix(t.bucket()) + 1;
+    }
+
+    private int below(Totals t) {
+        return t.bucket() == 0 ? 0 : buckets.prefix(t.bucket() - 1);
+    }
+
+    private void refresh() {
+        if (stale || System.nanoTime() - loadedAt >= maxAgeNanos) {
+            // cleared before reading, so a change committed during the load is picked up next time
+            stale = false;
+            loadedAt = System.nanoTime();
+            dirty.clear();
+            totals.clear();
+            buckets.clear();
+            gpas.findAllTotals().forEach(this::put);
+            return;
+        }
+        if (dirty.isEmpty()) return;
+        List<Long> ids = new ArrayList<>(dirty);
+        dirty.removeAll(ids);
+        for (Long id : ids) {
+            Totals old = totals.remove(id);
+            if (old != null) buckets.add(old.bucket(), -1);
+        }
+        for (int i = 0; i < ids.size(); i += 1000)
+            gpas.findTotals(ids.subList(i, Math.min(ids.size(), i + 1000))).forEach(this::put);
+    }
+
+    private void put(Object[] row) {
+        Totals t = new Totals((Long) row[0], ((Number) row[1]).intValue(), ((Number) row[2]).longValue());
+        if (t.credits() <= 0) return;
+        totals.put(t.studentId(), t);
+        buckets.add(t.bucket(), 1);
+    }
+
+    private record Totals(Long studentId, int credits, long pointsX10) {
+        /** Higher GPA first (compared exactly), then more graded credits, then lower id. */
+        static final Comparator<Totals> BETTER_FIRST = (a, b) -> {
+            int c = Long.compare(b.pointsX10 * a.credits, a.pointsX10 * b.credits);
+            if (c != 0) return c;
+            c = Integer.compare(b.credits, a.credits);
+            return c != 0 ? c : a.studentId.compareTo(b.studentId);
+        };
+
+        double gpa() { return pointsX10 / 10.0 / credits; }
+
+        int bucket() { return (int) Math.min(BUCKETS - 1, Math.max(0, pointsX10 * 100 / credits)); }
+    }
+
+    /** Counts per bucket with O(log n) prefix sums. */
+    private static final class Fenwick {
+        private final int[] tree;
+
+        Fenwick(int size) { tree = new int[size + 1]; }
+
+        void clear() { Arrays.fill(tree, 0); }
+
+        void add(int bucket, int delta) {
+            for (int i = bucket + 1; i < tree.length; i += i & -i) tree[i] += delta;
+        }
+
+        /** Count in buckets 0..bucket. */
+        int prefix(int bucket) {
+            int sum = 0;
+            for (int i = bucket + 1; i > 0; i -= i & -i) sum += tree[i];
+            return sum;
+        }
+
+        /** Smallest bucket whose prefix count reaches {@code k} (k >= 1). */
+        int lowerBound(int k) {
+            int pos = 0;
+            for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+                if (pos + step < tree.length && tree[pos + step] < k) {
+                    pos += step;
+                    k -= tree[pos];
+                }
+            }
+            return pos; // 1-based index pos + 1 is bucket pos
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.erp.universitycoursemanagement.service;
+
+import com.erp.universitycoursemanagement.config.CacheConfig;
+import com.erp.universitycoursemanagement.dto.GradeDistribution;
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Grade;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.EnrollmentRepository;
+import com.erp.universitycoursemanagement.support.AfterCommit;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Grade histograms per course, each from one GROUP BY over the course's enrollments and cached until
+ * an enrollment of that course is added, graded or dropped on this instance; changes made on other
+ * instances show up once app.gradeDistributionCache.ttlSeconds expires the entry. Evictions run after the
+ * writing transaction commits; a histogram computed while an eviction happened is returned but not cached, so a reader that
+ * saw the old rows cannot put them back after the eviction.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GradeDistributionService {
+
+    private static final int IN_CHUNK = 1000;
+
+    private final EnrollmentRepository enrollments;
+    private final CourseRepository courses;
+    private final Cache cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public GradeDistributionService(EnrollmentRepository enrollments, CourseRepository courses, CacheManager cacheManager) {
+        this.enrollments = enrollments;
+        this.courses = courses;
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.GRADE_DISTRIBUTION));
+    }
+
+    public GradeDistribution forCourse(Long courseId) {
+        GradeDistribution cached = cache.get(courseId, GradeDistribution.class);
+        if (cached != null) return cached;
+
+        long generation = evictions.get();
+        Course c = courses.findById(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("Course not found: " + courseId));
+        int[] counts = new int[Grade.values().length];
+        int ungraded = 0;
+        for (Object[] row : enrollments.countByGrade(courseId)) {
+            int n = ((Number) row[1]).intValue();
+            if (row[0] == null) ungraded = n;
+            else counts[((Grade) row[0]).ordinal()] = n;
+        }
+        GradeDistribution d = new GradeDistribution(courseId, c.getCode(), counts, ungraded);
+        putIfUnchanged(generation, Map.of(courseId, d));
+        return d;
+    }
+
+    /**
+     * Every course in code order, including those without enrollments. Cached courses are served from
+     * the cache; all others come from a single GROUP BY (course, grade) instead of one query per course.
+     */
+    public List<GradeDistribution> forAllCourses() {
+        long generation = evictions.get();
+        List<Object[]> catalog = courses.findIdsAndCodes();
+        Map<Long, GradeDistribution> result = new LinkedHashMap<>();
+        Map<Long, String> missing = new HashMap<>();
+        for (Object[] course : catalog) {
+            Long id = (Long) course[0];
+            GradeDistribution cached = cache.get(id, GradeDistribution.class);
+            result.put(id, cached);
+            if (cached == null) missing.put(id, (String) course[1]);
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, GradeDistribution> computed = compute(missing, missing.size() == catalog.size());
+            result.putAll(computed);
+            putIfUnchanged(generation, computed);
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    private Map<Long, GradeDistribution> compute(Map<Long, String> codes, boolean allCourses) {
+        int grades = Grade.values().length;
+        Map<Long, int[]> counts = new HashMap<>();
+        Map<Long, Integer> ungraded = new HashMap<>();
+        List<Object[]> rows = new ArrayList<>();
+        if (allCourses) {
+            rows.addAll(enrollments.countByCourseAndGrade());
+        } else {
+            List<Long> ids = new ArrayList<>(codes.keySet());
+            for (int i = 0; i < ids.size(); i += IN_CHUNK)
+                rows.addAll(enrollments.countByCourseAndGrade(ids.subList(i, Math.min(ids.size(), i + IN_CHUNK))));
+        }
+        for (Object[] row : rows) {
+            Long courseId = (Long) row[0];
+            int n = ((Number) row[2]).intValue();
+            if (row[1] == null) ungraded.put(courseId, n);
+            else counts.computeIfAbsent(courseId, id -> new int[grades])[((Grade) row[1]).ordinal()] = n;
+        }
+        Map<Long, GradeDistribution> result = new HashMap<>();
+        codes.forEach((id, code) -> result.put(id, new GradeDistribution(id, code,
+                counts.getOrDefault(id, new int[grades]), ungraded.getOrDefault(id, 0))));
+        return result;
+    }
+
+    private void putIfUnchanged(long generation, Map<Long, GradeDistribution> computed) {
+        if (evictions.get() != generation) return;
+        computed.forEach(cache::put);
+        // an eviction that raced the puts above may have run before them; drop what we just wrote
+        if (evictions.get() != generation) computed.keySet().forEach(cache::evict);
+    }
+
+    /** Forgets the histogram of {@code courseId} once the current transaction commits (immediately outside one). */
+    public void evict(Long courseId) {
+        AfterCommit.run(() -> {
+            evictions.incrementAndGet();
+            cache.evict(courseId);
+        });
+    }
+}
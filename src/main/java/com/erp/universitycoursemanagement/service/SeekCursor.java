@@ -0,0 +1,52 @@
+package com.erp.universitycoursemanagement.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque seek tokens for keyset pagination. A token holds the sort key of the last row of a page,
+ * tagged with the list it belongs to, so a token from one endpoint is rejected by another. Clients
+ * must treat it as an opaque string; the encoding may change.
+ */
+public final class SeekCursor {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final char SEP = '\u001f';
+
+    private SeekCursor() {}
+
+    public static String encode(String kind, Object... key) {
+        StringBuilder sb = new StringBuilder(kind);
+        for (Object part : key) sb.append(SEP).append(part);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** The key parts of {@code token}, or {@code null} for an empty token (first page). */
+    public static String[] decode(String kind, String token, int parts) {
+        if (token == null || token.isBlank()) return null;
+        String[] split;
+        try {
+            split = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(String.valueOf(SEP), -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (split.length != parts + 1 || !split[0].equals(kind)) throw new IllegalArgumentException("Invalid cursor");
+        String[] key = new String[parts];
+        System.arraycopy(split, 1, key, 0, parts);
+        return key;
+    }
+
+    public static long parseId(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
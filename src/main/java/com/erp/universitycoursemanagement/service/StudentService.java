@@ -1,22 +1,48 @@
 package com.erp.universitycoursemanagement.service;
 
+import com.erp.universitycoursemanagement.dto.CursorPage;
 import com.erp.universitycoursemanagement.model.Student;
 import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.erp.universitycoursemanagement.search.StudentSearchIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service @Transactional
 public class StudentService {
 
     private final StudentRepository students;
+    private final GpaAggregateService gpa;
+    private final StudentSearchIndex searchIndex;
 
-    public StudentService(StudentRepository students) { this.students = students; }
+    public StudentService(StudentRepository students, GpaAggregateService gpa, StudentSearchIndex searchIndex) {
+        this.students = students; this.gpa = gpa; this.searchIndex = searchIndex;
+    }
 
+    @Transactional(readOnly = true)
     public Page<Student> list(Pageable pageable) { return students.findAll(pageable); }
+    /** Keyset page in (lastName, firstName, id) order; costs the same at any depth. */
+    @Transactional(readOnly = true)
+    public CursorPage<Student> listAfter(String cursor, int size) {
+        String[] key = SeekCursor.decode("student", cursor, 3);
+        int n = SeekCursor.clampSize(size);
+        List<Student> rows = key == null
+                ? students.findPageAfter(null, null, null, n + 1)
+                : students.findPageAfter(key[0], key[1], SeekCursor.parseId(key[2]), n + 1);
+        return CursorPage.of(rows, n, s -> SeekCursor.encode("student", s.getLastName(), s.getFirstName(), s.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public long count() { return students.count(); }
+
+    @Transactional(readOnly = true)
+    public Page<Student> search(String q, Pageable pageable) { return searchIndex.search(q, pageable); }
     public Student create(Student s) { return students.save(s); }
 
+    @Transactional(readOnly = true)
     public Student get(Long id) {
         return students.findById(id).orElseThrow(() -> new IllegalArgumentException("Student not found: " + id));
     }
@@ -30,5 +56,8 @@ public class StudentService {
         return e;
     }
 
-    public void delete(Long id) { students.deleteById(id); }
+    public void delete(Long id) {
+        students.deleteById(id);
+        gpa.remove(id);
+    }
 }
\ No newline at end of file
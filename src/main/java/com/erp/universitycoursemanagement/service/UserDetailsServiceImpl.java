@@ -1,15 +1,19 @@
 package com.erp.universitycoursemanagement.service;
 
+import com.erp.universitycoursemanagement.config.CacheConfig;
 import com.erp.universitycoursemanagement.model.User;
 import com.erp.universitycoursemanagement.model.Status;
 import com.erp.universitycoursemanagement.repository.UserRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -17,10 +21,22 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         this.userRepository = userRepository;
     }
 
+    // cached; UserChangeListener evicts on any change to the user row
     @Override
+    @Cacheable(CacheConfig.USER_DETAILS)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsernameAndStatus(username, Status.ACTIVE)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         return user;
     }
+
+    /** Stores a re-hashed password after a successful login (cost raised); the listener evicts the cached copy. */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User stored = userRepository.findByUsernameAndStatus(user.getUsername(), Status.ACTIVE)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + user.getUsername()));
+        stored.setPassword(newPassword);
+        return stored;
+    }
 }
@@ -0,0 +1,46 @@
+-- The schema the original release created with ddl-auto=update. Databases created that way already have
+-- these tables and are baselined at version 1 (spring.flyway.baseline-on-migrate), so this file must stay
+-- exactly that schema; everything added since goes into later versions.
+
+CREATE TABLE students (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    index_number VARCHAR(20)  NOT NULL,
+    first_name   VARCHAR(64)  NOT NULL,
+    last_name    VARCHAR(64)  NOT NULL,
+    email        VARCHAR(128) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_student_index UNIQUE (index_number)
+) ENGINE = InnoDB;
+
+CREATE TABLE courses (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    code        VARCHAR(16)  NOT NULL,
+    title       VARCHAR(128) NOT NULL,
+    credits     INTEGER      NOT NULL,
+    capacity    INTEGER      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_course_code UNIQUE (code)
+) ENGINE = InnoDB;
+
+CREATE TABLE enrollments (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    student_id  BIGINT      NOT NULL,
+    course_id   BIGINT      NOT NULL,
+    enrolled_at DATETIME(6),
+    grade       ENUM ('A','A_MINUS','A_PLUS','B','B_MINUS','B_PLUS','C','C_MINUS','C_PLUS','D','D_PLUS','E'),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_student_course UNIQUE (student_id, course_id),
+    CONSTRAINT fk_enrollment_student FOREIGN KEY (student_id) REFERENCES students (id),
+    CONSTRAINT fk_enrollment_course FOREIGN KEY (course_id) REFERENCES courses (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    username VARCHAR(50)  NOT NULL,
+    email    VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role     ENUM ('ADMIN','INSTRUCTOR','STUDENT'),
+    status   ENUM ('ACTIVE','DELETED'),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_username UNIQUE (username)
+) ENGINE = InnoDB;
@@ -0,0 +1,45 @@
+-- Everything the seat counter, GPA aggregate, pooled enrollment ids and keyset pagination need on top of
+-- the original schema. Existing rows are backfilled, so a database created by the original release comes
+-- up consistent on its first start with this version.
+
+-- atomic seat reservation: the counter starts at the current head count
+ALTER TABLE courses ADD COLUMN seats_taken INTEGER NOT NULL DEFAULT 0;
+
+UPDATE courses c SET seats_taken = (SELECT COUNT(*) FROM enrollments e WHERE e.course_id = c.id);
+
+-- per-student GPA aggregate; points are stored x10 (A+ and A = 40 ... E = 0) to stay integral
+CREATE TABLE student_gpa (
+    student_id         BIGINT  NOT NULL,
+    graded_credits     INTEGER NOT NULL,
+    weighted_pointsx10 BIGINT  NOT NULL,
+    PRIMARY KEY (student_id)
+) ENGINE = InnoDB;
+
+INSERT INTO student_gpa (student_id, graded_credits, weighted_pointsx10)
+SELECT e.student_id,
+       SUM(c.credits),
+       SUM(c.credits * CASE e.grade
+                           WHEN 'A_PLUS' THEN 40 WHEN 'A' THEN 40 WHEN 'A_MINUS' THEN 37
+                           WHEN 'B_PLUS' THEN 33 WHEN 'B' THEN 30 WHEN 'B_MINUS' THEN 27
+                           WHEN 'C_PLUS' THEN 23 WHEN 'C' THEN 20 WHEN 'C_MINUS' THEN 17
+                           WHEN 'D_PLUS' THEN 13 WHEN 'D' THEN 10 ELSE 0 END)
+FROM enrollments e JOIN courses c ON c.id = e.course_id
+WHERE e.grade IS NOT NULL
+GROUP BY e.student_id;
+
+-- enrollment ids now come from a pooled generator (allocationSize 50); MySQL has no sequences, so Hibernate
+-- uses a table. The existing ids came from AUTO_INCREMENT, so the generator starts past them: the pooled
+-- optimizer hands out (next_val - 49 .. next_val] for a value it reads, hence MAX(id) + 51 (1 when empty).
+ALTER TABLE enrollments MODIFY id BIGINT NOT NULL;
+
+CREATE TABLE enrollments_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO enrollments_seq (next_val)
+SELECT CASE WHEN MAX(id) IS NULL THEN 1 ELSE MAX(id) + 51 END FROM enrollments;
+
+-- keyset pagination
+CREATE INDEX idx_student_name ON students (last_name, first_name, id);
+CREATE INDEX idx_enrollment_student ON enrollments (student_id, id);
+CREATE INDEX idx_enrollment_course ON enrollments (course_id, id);
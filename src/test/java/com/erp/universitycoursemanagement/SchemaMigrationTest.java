@@ -0,0 +1,31 @@
+package com.erp.universitycoursemanagement;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * The Flyway migrations, on an empty database, produce the schema Hibernate expects for the entities.
+ * Validated with the MySQL dialect (sequence tables, enum columns), as in production.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SchemaMigrationTest {
+
+    @Autowired Flyway flyway;
+
+    @Test
+    void migrationsMatchTheEntities() {
+        // the context only starts if ddl-auto=validate accepted the migrated schema
+        assertNotNull(flyway.info().current());
+        assertEquals(0, flyway.info().pending().length);
+    }
+}
@@ -0,0 +1,81 @@
+package com.erp.universitycoursemanagement;
+
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.erp.universitycoursemanagement.service.EnrollmentService;
+import com.erp.universitycoursemanagement.service.GpaAggregateService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A database created by the original release (ddl-auto=update, no Flyway history, AUTO_INCREMENT
+ * enrollment ids) with data in it is baselined at V1 and upgraded by the later migrations on startup.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + SchemaUpgradeTest.URL,
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SchemaUpgradeTest {
+
+    static final String URL = "jdbc:h2:mem:upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    // before the context starts: the original schema and some rows written by the original release
+    static {
+        try (Connection c = DriverManager.getConnection(URL, "sa", ""); Statement s = c.createStatement()) {
+            ScriptUtils.executeSqlScript(c, new ClassPathResource("db/migration/V1__initial_schema.sql"));
+            s.execute("INSERT INTO students (index_number, first_name, last_name, email) VALUES"
+                    + " ('UP1', 'Ada', 'Old', 'up1@uni.test'), ('UP2', 'Bob', 'Old', 'up2@uni.test')");
+            s.execute("INSERT INTO courses (code, title, credits, capacity) VALUES ('UP-A', 'Old A', 3, 10), ('UP-B', 'Old B', 4, 10)");
+            s.execute("INSERT INTO enrollments (student_id, course_id, grade) VALUES (1, 1, 'A'), (1, 2, 'B_MINUS'), (2, 1, NULL)");
+            s.execute("INSERT INTO enrollments (id, student_id, course_id, grade) VALUES (500, 2, 2, 'C_PLUS')");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Autowired Flyway flyway;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired GpaAggregateService gpaAggregate;
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired StudentRepository students;
+
+    @Test
+    void originalDatabaseIsUpgradedAndBackfilled() {
+        // the context only starts if ddl-auto=validate accepted the upgraded schema
+        assertEquals("2", flyway.info().current().getVersion().getVersion());
+
+        assertEquals(2, seatsTaken("UP-A"));
+        assertEquals(2, seatsTaken("UP-B"));
+        assertEquals((3 * 4.0 + 4 * 2.7) / 7, gpaAggregate.gpa(1L), 1e-9);
+        assertEquals(2.3, gpaAggregate.gpa(2L), 1e-9);
+        assertEquals(0, gpaAggregate.rebuild(), "backfilled aggregates match the enrollments");
+        assertEquals(3, jdbc.queryForObject("SELECT COUNT(*) FROM information_schema.indexes"
+                + " WHERE index_name IN ('idx_student_name', 'idx_enrollment_student', 'idx_enrollment_course')", Integer.class));
+
+        // new enrollment ids start past the AUTO_INCREMENT ones
+        Student s = students.save(Student.builder().indexNumber("UP3").firstName("New").lastName("Student")
+                .email("up3@uni.test").build());
+        assertTrue(enrollmentService.enroll(s.getId(), 1L).getId() > 500);
+        assertEquals(3, seatsTaken("UP-A"));
+    }
+
+    private int seatsTaken(String code) {
+        return jdbc.queryForObject("SELECT seats_taken FROM courses WHERE code = ?", Integer.class, code);
+    }
+}
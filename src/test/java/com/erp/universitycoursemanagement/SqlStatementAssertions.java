@@ -0,0 +1,39 @@
+package com.erp.universitycoursemanagement;
+
+import com.erp.universitycoursemanagement.config.SqlStatementBudgetFilter;
+import com.erp.universitycoursemanagement.config.SqlStatementStats;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pins the number of SQL statements a request or a block of code may run, so N+1 regressions fail a
+ * test instead of showing up in production:
+ * <pre>
+ * mvc.perform(get("/api/enrollments/by-course/" + id)).andExpect(atMostStatements(2));
+ * assertAtMostStatements(1, () -> service.byCourse(id));
+ * </pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /** Checks the count recorded by {@link SqlStatementBudgetFilter} for a MockMvc request. */
+    public static ResultMatcher atMostStatements(int max) {
+        return result -> {
+            SqlStatementStats stats = (SqlStatementStats) result.getRequest().getAttribute(SqlStatementBudgetFilter.STATS_ATTRIBUTE);
+            assertNotNull(stats, "request did not pass through SqlStatementBudgetFilter");
+            assertTrue(stats.getStatements() <= max, () -> result.getRequest().getRequestURI() + " ran "
+                    + stats.getStatements() + " SQL statements, expected at most " + max);
+        };
+    }
+
+    public static SqlStatementStats assertAtMostStatements(int max, Runnable work) {
+        SqlStatementStats stats = SqlStatementStats.count(work);
+        assertTrue(stats.getStatements() <= max,
+                () -> "ran " + stats.getStatements() + " SQL statements, expected at most " + max);
+        return stats;
+    }
+}
@@ -0,0 +1,124 @@
+package com.erp.universitycoursemanagement.benchmark;
+
+import com.erp.universitycoursemanagement.model.Role;
+import com.erp.universitycoursemanagement.model.Status;
+import com.erp.universitycoursemanagement.model.User;
+import com.erp.universitycoursemanagement.security.AuthTokenFilter;
+import com.erp.universitycoursemanagement.security.JwtUtils;
+import com.erp.universitycoursemanagement.security.TokenRevocationList;
+import com.erp.universitycoursemanagement.service.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT cost: the previous filter path (key derived and parser built on every call, token
+ * verified twice) against a single parse with a reused parser, the verified-token cache, and the
+ * whole AuthTokenFilter, once with the user lookup stubbed out and once authenticating from the claims.
+ * Also the login-side cost of issuing a token. {@code singleParseReusedParser} is what
+ * {@code validateJwtToken} costs on a cache miss.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    static final String SECRET = "UniversityCourseManagementSecretKeyForJWTSigningMustBe256BitsOrMore";
+
+    JwtUtils jwtUtils;
+    JwtParser reusedParser;
+    AuthTokenFilter filter;
+    AuthTokenFilter statelessFilter;
+    String token;
+    String claimsToken;
+    User principal;
+    FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        jwtUtils = jwtUtils();
+        token = jwtUtils.generateTokenFromUsername("bench-user");
+        reusedParser = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes())).build();
+
+        UserDetailsServiceImpl users = Mockito.mock(UserDetailsServiceImpl.class);
+        Mockito.when(users.loadUserByUsername(Mockito.anyString()))
+                .thenReturn(User.builder().username("bench-user").email("b@uni.test").password("x").build());
+        TokenRevocationList revocations = new TokenRevocationList(86_400_000, 100_000);
+        filter = new AuthTokenFilter(jwtUtils, users, revocations, false);
+        statelessFilter = new AuthTokenFilter(jwtUtils, users, revocations, true);
+        principal = User.builder().username("bench-user").email("b@uni.test")
+                .password("x").role(Role.STUDENT).status(Status.ACTIVE).build();
+        claimsToken = jwtUtils.generateJwtToken(principal);
+        // a populated revocation list, so the check is measured on a realistic filter
+        for (int i = 0; i < 50_000; i++) revocations.revokeUser("revoked-" + i);
+    }
+
+    static JwtUtils jwtUtils() {
+        JwtUtils utils = new JwtUtils();
+        ReflectionTestUtils.setField(utils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(utils, "jwtExpirationMs", 86_400_000);
+        ReflectionTestUtils.setField(utils, "cacheMaxSize", 10_000);
+        ReflectionTestUtils.setField(utils, "cacheMaxTtlMs", 600_000L);
+        ReflectionTestUtils.invokeMethod(utils, "init");
+        return utils;
+    }
+
+    @Benchmark
+    public String legacyValidateThenParse() {
+        Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes())).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                .parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String singleParseReusedParser() {
+        return reusedParser.parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Claims cachedVerifiedClaims() {
+        return jwtUtils.getVerifiedClaims(token);
+    }
+
+    @Benchmark
+    public String generateJwtToken() {
+        return jwtUtils.generateJwtToken(principal);
+    }
+
+    @Benchmark
+    public boolean validateJwtToken() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public Object authTokenFilter() throws Exception {
+        return authenticate(filter, token);
+    }
+
+    @Benchmark
+    public Object authTokenFilterStateless() throws Exception {
+        return authenticate(statelessFilter, claimsToken);
+    }
+
+    private Object authenticate(AuthTokenFilter f, String jwt) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        request.addHeader("Authorization", "Bearer " + jwt);
+        f.doFilter(request, new MockHttpServletResponse(), chain);
+        Object auth = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return auth;
+    }
+}
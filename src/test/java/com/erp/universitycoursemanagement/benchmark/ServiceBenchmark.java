@@ -0,0 +1,122 @@
+package com.erp.universitycoursemanagement.benchmark;
+
+import com.erp.universitycoursemanagement.UniversityCourseManagementApplication;
+import com.erp.universitycoursemanagement.datagen.DatasetSpec;
+import com.erp.universitycoursemanagement.datagen.GeneratedDataset;
+import com.erp.universitycoursemanagement.datagen.SyntheticDataGenerator;
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Enrollment;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.erp.universitycoursemanagement.service.EnrollmentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service and repository hot paths on the embedded H2 database (MySQL mode, same schema, caches and
+ * DataSource wrapping as the application), seeded by {@link SyntheticDataGenerator} with {@code students}
+ * students, a catalog of one course per 25 students and four enrollments per student with Zipf-skewed
+ * course popularity, 80% of them graded. Each scale runs in its own fork
+ * with a fresh database. {@code enroll} uses 100 extra courses that are emptied before every iteration.
+ * <pre>
+ * mvn -Pjmh -DskipTests verify -Djmh.includes=ServiceBenchmark [-Djmh.args="-p students=1000"]
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    private static final int ENROLLMENTS_PER_STUDENT = 4;
+    private static final int ENROLL_COURSES = 100;
+    private static final String[] STUDENT_TERMS = {"pere", "silva", "ada", "grace", "nguy", "sunil", "tharindu", "gen00001"};
+    private static final String[] COURSE_TERMS = {"algo", "data", "net", "calc", "gen-001", "sec", "phys", "econ"};
+
+    @Param({"1000", "10000", "50000"})
+    int students;
+
+    ConfigurableApplicationContext context;
+    EnrollmentService enrollmentService;
+    StudentRepository studentRepository;
+    CourseRepository courseRepository;
+    JdbcTemplate jdbc;
+
+    long[] studentIds;
+    long[] enrollCourseIds;
+    int nextPair;
+    int nextLookup;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(UniversityCourseManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--logging.level.root=WARN", "--app.slowQuery.thresholdMs=60000");
+        enrollmentService = context.getBean(EnrollmentService.class);
+        studentRepository = context.getBean(StudentRepository.class);
+        courseRepository = context.getBean(CourseRepository.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /** Empties the enroll-only courses so every iteration enrolls fresh pairs into courses with the same fill. */
+    @Setup(Level.Iteration)
+    public void resetEnrollCourses() {
+        jdbc.update("DELETE FROM enrollments WHERE course_id IN (SELECT id FROM courses WHERE code LIKE 'JMH-E%')");
+        jdbc.update("UPDATE courses SET seats_taken = 0 WHERE code LIKE 'JMH-E%'");
+        nextPair = 0;
+    }
+
+    @Benchmark
+    public Enrollment enroll() {
+        int pair = nextPair++;
+        return enrollmentService.enroll(studentIds[(pair / ENROLL_COURSES) % studentIds.length],
+                enrollCourseIds[pair % ENROLL_COURSES]);
+    }
+
+    @Benchmark
+    public double gpaForStudent() {
+        return enrollmentService.gpaForStudent(studentIds[nextLookup++ % studentIds.length]);
+    }
+
+    @Benchmark
+    public List<Student> studentSearch() {
+        return studentRepository.search(STUDENT_TERMS[nextLookup++ % STUDENT_TERMS.length]);
+    }
+
+    @Benchmark
+    public List<Course> courseSearchByTitleOrCode() {
+        return courseRepository.searchByTitleOrCode(COURSE_TERMS[nextLookup++ % COURSE_TERMS.length]);
+    }
+
+    private void seed() {
+        GeneratedDataset dataset = context.getBean(SyntheticDataGenerator.class).generate(DatasetSpec.builder()
+                .students(students).courses(Math.max(20, students / 25))
+                .minEnrollmentsPerStudent(ENROLLMENTS_PER_STUDENT).maxEnrollmentsPerStudent(ENROLLMENTS_PER_STUDENT)
+                .gradedFraction(0.8).capacity(students).users(0).build());
+        studentIds = dataset.getStudentIds();
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ENROLL_COURSES; i++)
+            rows.add(new Object[]{"JMH-E" + i, "Enroll benchmark " + i, 3, Integer.MAX_VALUE});
+        jdbc.batchUpdate("INSERT INTO courses (code, title, credits, capacity, seats_taken) VALUES (?,?,?,?,0)", rows);
+        enrollCourseIds = jdbc.queryForList("SELECT id FROM courses WHERE code LIKE 'JMH-E%' ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+}
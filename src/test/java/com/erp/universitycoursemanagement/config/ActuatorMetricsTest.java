@@ -0,0 +1,58 @@
+package com.erp.universitycoursemanagement.config;
+
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability // tests otherwise run without the Prometheus registry
+class ActuatorMetricsTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired CourseRepository courses;
+
+    @Test
+    void probesArePublicAndUp() throws Exception {
+        mvc.perform(get("/actuator/health/liveness")).andExpect(status().isOk()).andExpect(jsonPath("$.status").value("UP"));
+        mvc.perform(get("/actuator/health/readiness")).andExpect(status().isOk()).andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    void otherEndpointsNeedAdmin() throws Exception {
+        mvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void scrapeHasEndpointHistogramsPoolGaugesAndHibernateStats() throws Exception {
+        Course c = courses.save(Course.builder().code("ACT-1").title("Metrics").credits(3).build());
+        mvc.perform(get("/api/courses/" + c.getId())).andExpect(status().isOk());
+
+        String scrape = mvc.perform(get("/actuator/prometheus")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        for (String metric : new String[]{
+                "http_server_requests_seconds_bucket{application=\"UniversityCourseManagement\",error=\"none\",exception=\"none\",method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/api/courses/{id}\"",
+                "hikaricp_connections_active{",
+                "hikaricp_connections_pending{",
+                "hikaricp_connections_max{",
+                "hibernate_query_executions_total{",
+                "hibernate_entities_loads_total{",
+                "hibernate_second_level_cache_requests_total{",
+                "hibernate_session_statements_count{",
+                "hibernate_session_entity_loads_sum{",
+                "hibernate_session_cache_hits_bucket{"})
+            assertTrue(scrape.contains(metric), () -> "missing " + metric);
+    }
+}
@@ -0,0 +1,132 @@
+package com.erp.universitycoursemanagement.config;
+
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Role;
+import com.erp.universitycoursemanagement.model.Status;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.model.User;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.erp.universitycoursemanagement.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.bulkhead.enrollmentWrites.maxConcurrent=1",
+        "app.bulkhead.enrollmentWrites.maxQueued=0",
+        "app.bulkhead.auth.pool.maximumPoolSize=2"
+})
+@AutoConfigureMockMvc
+class BulkheadTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired BulkheadFilter filter;
+    @Autowired MeterRegistry meters;
+    @Autowired StudentRepository students;
+    @Autowired CourseRepository courses;
+    @Autowired UserRepository users;
+    @Autowired PasswordEncoder passwordEncoder;
+
+    @Test
+    void requestsAreClassifiedByEndpoint() {
+        assertEquals(BulkheadFilter.AUTH, classify("POST", "/api/auth/login"));
+        assertEquals(BulkheadFilter.CATALOG_READS, classify("GET", "/api/courses"));
+        assertEquals(BulkheadFilter.CATALOG_READS, classify("GET", "/api/students/7"));
+        assertEquals(BulkheadFilter.ENROLLMENT_WRITES, classify("POST", "/api/enrollments/enroll"));
+        assertEquals(BulkheadFilter.ENROLLMENT_WRITES, classify("PATCH", "/api/enrollments/3/grade"));
+        assertNull(classify("GET", "/api/enrollments/by-student/1"));
+        assertNull(classify("POST", "/api/courses"));
+        assertNull(classify("GET", "/api/coursesx"));
+    }
+
+    @Test
+    void fullWriteBulkheadTurnsWritesAwayButNotReads() throws Exception {
+        Course c = courses.save(Course.builder().code("BULK-1").title("Bulkhead").credits(3).build());
+        Student s = students.save(Student.builder().indexNumber("BULK1").firstName("B").lastName("Bulk")
+                .email("bulk1@uni.test").build());
+        Bulkhead writes = filter.bulkhead(BulkheadFilter.ENROLLMENT_WRITES);
+        double rejectedBefore = rejected();
+
+        ExecutorService holder = Executors.newSingleThreadExecutor();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            holder.submit(() -> {
+                assertTrue(writes.tryEnter());
+                entered.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } finally {
+                    writes.exit();
+                }
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            mvc.perform(post("/api/enrollments/enroll").param("studentId", s.getId().toString())
+                            .param("courseId", c.getId().toString()).with(user("bulk").roles("STUDENT")))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+            assertEquals(rejectedBefore + 1, rejected());
+
+            // browsing is in another bulkhead and carries on
+            mvc.perform(get("/api/courses/{id}", c.getId()).with(user("bulk").roles("STUDENT")))
+                    .andExpect(status().isOk());
+        } finally {
+            release.countDown();
+            holder.shutdown();
+            assertTrue(holder.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        mvc.perform(post("/api/enrollments/enroll").param("studentId", s.getId().toString())
+                        .param("courseId", c.getId().toString()).with(user("bulk").roles("STUDENT")))
+                .andExpect(status().isOk());
+        assertTrue(meters.get("bulkhead.queue.time").tag("bulkhead", BulkheadFilter.ENROLLMENT_WRITES).timer().count() > 0);
+    }
+
+    @Test
+    void signInRunsOnItsOwnPool() throws Exception {
+        users.save(new User("bulk-login", "bulk-login@uni.test", passwordEncoder.encode("secret-1"), Role.STUDENT, Status.ACTIVE));
+        long before = authPoolUsage();
+
+        mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"bulk-login\",\"password\":\"secret-1\"}"))
+                .andExpect(status().isOk());
+        assertTrue(authPoolUsage() > before, "the login's connection came from the auth pool");
+    }
+
+    private String classify(String method, String uri) {
+        Bulkhead b = filter.classify(new MockHttpServletRequest(method, uri));
+        return b != null ? b.getName() : null;
+    }
+
+    private double rejected() {
+        return meters.get("bulkhead.rejected").tag("bulkhead", BulkheadFilter.ENROLLMENT_WRITES)
+                .tag("reason", "queue_full").counter().count();
+    }
+
+    private long authPoolUsage() {
+        Timer usage = meters.find("hikaricp.connections.usage").tag("pool", BulkheadFilter.AUTH).timer();
+        return usage != null ? usage.count() : 0;
+    }
+}
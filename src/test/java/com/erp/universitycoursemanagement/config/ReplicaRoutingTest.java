@@ -0,0 +1,106 @@
+package com.erp.universitycoursemanagement.config;
+
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.erp.universitycoursemanagement.service.CourseService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica. "Replication" is an explicit
+ * snapshot copy, so anything written after the last copy is visible only on the primary, like replica lag.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingTest.PRIMARY_URL,
+        "app.replica.jdbcUrl=" + ReplicaRoutingTest.REPLICA_URL,
+        "app.replica.username=sa",
+        "app.replica.readYourWritesMs=60000"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:rw-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:rw-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @TestConfiguration
+    static class Replication {
+        // before the startup listeners that read (search index, suggest index, GPA check) hit the replica
+        @EventListener(ApplicationReadyEvent.class)
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        public void initialCopy() throws SQLException {
+            replicate();
+        }
+    }
+
+    static void replicate() throws SQLException {
+        String script = "target/rw-replica-" + System.nanoTime() + ".sql";
+        try (Connection p = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement s = p.createStatement()) {
+            s.execute("SCRIPT TO '" + script + "'");
+        }
+        try (Connection r = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement s = r.createStatement()) {
+            s.execute("DROP ALL OBJECTS");
+            s.execute("RUNSCRIPT FROM '" + script + "'");
+        }
+    }
+
+    @Autowired MockMvc mvc;
+    @Autowired CourseService courseService;
+    @Autowired CourseRepository courses;
+    @Autowired StudentRepository students;
+    @Autowired EntityManagerFactory emf;
+
+    @Test
+    void readOnlyTransactionsGoToTheReplicaAndWritersReadTheirWrites() throws Exception {
+        // the second-level cache regions are shared by every test context in the JVM; courses cached by
+        // another context under the same ids would answer the replica reads below
+        emf.getCache().evictAll();
+        Course c = courses.save(Course.builder().code("RW-1").title("Replicated").build());
+        Student s = students.save(Student.builder().indexNumber("RW1").firstName("Rita").lastName("Writer")
+                .email("rw1@uni.test").build());
+
+        // not replicated yet: the read-only get runs on the replica
+        assertThrows(IllegalArgumentException.class, () -> courseService.get(c.getId()));
+        replicate();
+        assertEquals("Replicated", courseService.get(c.getId()).getTitle());
+
+        mvc.perform(post("/api/enrollments/enroll").param("studentId", s.getId().toString())
+                        .param("courseId", c.getId().toString()).with(user("alice").roles("ADMIN")))
+                .andExpect(status().isOk());
+
+        // alice just wrote, so her reads are pinned to the primary; bob still reads the lagging replica
+        mvc.perform(get("/api/enrollments/by-student/{id}", s.getId()).with(user("alice").roles("ADMIN")))
+                .andExpect(jsonPath("$", hasSize(1)));
+        mvc.perform(get("/api/enrollments/by-student/{id}", s.getId()).with(user("bob").roles("ADMIN")))
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        replicate();
+        mvc.perform(get("/api/enrollments/by-student/{id}", s.getId()).with(user("bob").roles("ADMIN")))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+}
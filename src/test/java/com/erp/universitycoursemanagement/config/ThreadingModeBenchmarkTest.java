@@ -0,0 +1,156 @@
+package com.erp.universitycoursemanagement.config;
+
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Role;
+import com.erp.universitycoursemanagement.model.Status;
+import com.erp.universitycoursemanagement.model.User;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.UserRepository;
+import com.erp.universitycoursemanagement.security.JwtUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Throughput and latency of blocking endpoints under many concurrent clients, for whichever request
+ * threading is in effect. Each client is closed-loop (next request after the previous response). Opt-in:
+ * <pre>
+ * mvn test -Dtest=ThreadingModeBenchmarkTest -Dbenchmark=true [-Dbenchmark.clients=1000,10000] [-Dbenchmark.requestsPerClient=3]
+ * mvn test -Dtest=ThreadingModeBenchmarkTest -Dbenchmark=true -Dspring.profiles.active=virtual-threads   # Java 21+ runtime
+ * </pre>
+ * The bulkheads are off here: they would turn most of the load away with instant 503s and measure themselves.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.bulkhead.enabled=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ThreadingModeBenchmarkTest {
+
+    private static final int COURSES = 50;
+
+    @LocalServerPort int port;
+    @Autowired ApplicationContext context;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired CourseRepository courses;
+    @Autowired UserRepository users;
+    @Autowired JwtUtils jwtUtils;
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+    private String token;
+    private final List<Long> courseIds = new ArrayList<>();
+    private long[] studentIds;
+    private final AtomicInteger nextPair = new AtomicInteger();
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM enrollments WHERE student_id IN (SELECT id FROM students WHERE index_number LIKE 'TBENCH%')");
+        jdbc.update("DELETE FROM students WHERE index_number LIKE 'TBENCH%'");
+        jdbc.update("DELETE FROM courses WHERE code LIKE 'TB-%'");
+        jdbc.update("DELETE FROM users WHERE username = 'threading-bench'");
+    }
+
+    @Test
+    void enrollAndListsUnderConcurrentClients() throws Exception {
+        int[] clients = Arrays.stream(System.getProperty("benchmark.clients", "1000,10000").split(","))
+                .mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+        int perClient = Integer.getInteger("benchmark.requestsPerClient", 3);
+        seed(Arrays.stream(clients).sum() * perClient + 1000);
+
+        String base = "http://localhost:" + port;
+        IntFunction<HttpRequest> enroll = i -> {
+            int pair = nextPair.getAndIncrement();
+            return request(base + "/api/enrollments/enroll?studentId=" + studentIds[pair / COURSES]
+                    + "&courseId=" + courseIds.get(pair % COURSES), "POST");
+        };
+        IntFunction<HttpRequest> courseList = i -> request(base + "/api/courses?cursor=&size=20", "GET");
+        IntFunction<HttpRequest> roster = i -> request(base + "/api/enrollments/by-course/" + courseIds.get(i % COURSES)
+                + "?cursor=&size=20", "GET");
+
+        run(200, 5, courseList); // warm-up: JIT, connection setup, caches
+        run(200, 5, enroll);
+        String mode = ThreadingModeCheck.mode(context);
+        System.out.printf("%-8s %-24s %7s %10s %9s %9s %7s%n", "threads", "endpoint", "clients", "req/s", "p50 ms", "p99 ms", "errors");
+        for (int n : clients) {
+            print(mode, "POST enroll", n, run(n, perClient, enroll));
+            print(mode, "GET courses (keyset)", n, run(n, perClient, courseList));
+            print(mode, "GET roster (keyset)", n, run(n, perClient, roster));
+        }
+    }
+
+    private void seed(int pairs) {
+        for (int c = 0; c < COURSES; c++)
+            courseIds.add(courses.save(Course.builder().code("TB-" + c).title("Threading " + c).credits(3)
+                    .capacity(1_000_000).build()).getId());
+        int students = (pairs + COURSES - 1) / COURSES;
+        List<Object[]> batch = new ArrayList<>(5000);
+        for (int i = 0; i < students; i++) {
+            batch.add(new Object[]{"TBENCH" + i, "Bench", "Student" + i, "tbench" + i + "@uni.test"});
+            if (batch.size() == 5000 || i == students - 1) {
+                jdbc.batchUpdate("INSERT INTO students (index_number, first_name, last_name, email) VALUES (?,?,?,?)", batch);
+                batch.clear();
+            }
+        }
+        studentIds = jdbc.queryForList("SELECT id FROM students WHERE index_number LIKE 'TBENCH%' ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+
+        User admin = users.save(User.builder().username("threading-bench").email("threading-bench@uni.test")
+                .password("not-used").role(Role.ADMIN).status(Status.ACTIVE).build());
+        token = jwtUtils.generateJwtToken(admin);
+    }
+
+    private HttpRequest request(String url, String method) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + token)
+                .method(method, HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private record Result(double perSecond, double p50Ms, double p99Ms, int errors) {}
+
+    private Result run(int clients, int perClient, IntFunction<HttpRequest> request) {
+        long[] latencies = new long[clients * perClient];
+        AtomicInteger errors = new AtomicInteger();
+        CompletableFuture<?>[] loops = new CompletableFuture<?>[clients];
+        long start = System.nanoTime();
+        for (int c = 0; c < clients; c++)
+            loops[c] = loop(c * perClient, (c + 1) * perClient, request, latencies, errors);
+        CompletableFuture.allOf(loops).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(latencies);
+        return new Result(latencies.length / seconds, pct(latencies, 50), pct(latencies, 99), errors.get());
+    }
+
+    private CompletableFuture<Void> loop(int i, int end, IntFunction<HttpRequest> request, long[] latencies, AtomicInteger errors) {
+        if (i == end) return CompletableFuture.completedFuture(null);
+        long sent = System.nanoTime();
+        return http.sendAsync(request.apply(i), HttpResponse.BodyHandlers.discarding())
+                .handle((response, failure) -> {
+                    latencies[i] = System.nanoTime() - sent;
+                    if (failure != null || response.statusCode() >= 400) errors.incrementAndGet();
+                    return null;
+                })
+                .thenCompose(ignored -> loop(i + 1, end, request, latencies, errors));
+    }
+
+    private static double pct(long[] sorted, int p) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * p / 100)] / 1e6;
+    }
+
+    private static void print(String mode, String endpoint, int clients, Result r) {
+        System.out.printf("%-8s %-24s %7d %10.0f %9.1f %9.1f %7d%n", mode, endpoint, clients, r.perSecond(), r.p50Ms(), r.p99Ms(), r.errors());
+    }
+}
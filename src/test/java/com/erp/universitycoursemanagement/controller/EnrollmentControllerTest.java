@@ -0,0 +1,132 @@
+package com.erp.universitycoursemanagement.controller;
+
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.erp.universitycoursemanagement.service.EnrollmentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class EnrollmentControllerTest {
+
+    private static final int ROSTER = 40;
+
+    @Autowired MockMvc mvc;
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired StudentRepository students;
+    @Autowired CourseRepository courses;
+    @Autowired EntityManagerFactory emf;
+
+    private Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void rosterAndStudentEnrollmentsAreOneQueryEach() throws Exception {
+        Course c1 = courses.save(Course.builder().code("ROST1").title("Roster One").build());
+        Course c2 = courses.save(Course.builder().code("ROST2").title("Roster Two").build());
+        Long firstStudent = null;
+        for (int i = 0; i < ROSTER; i++) {
+            Student s = students.save(Student.builder().indexNumber("ROS" + i).firstName("F" + i).lastName("L" + i)
+                    .email("roster" + i + "@uni.test").build());
+            enrollmentService.enroll(s.getId(), c1.getId());
+            if (i == 0) {
+                firstStudent = s.getId();
+                enrollmentService.enroll(s.getId(), c2.getId());
+            }
+        }
+
+        stats.clear();
+        mvc.perform(get("/api/enrollments/by-course/{id}", c1.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(ROSTER)))
+                .andExpect(jsonPath("$[0].student.lastName").exists())
+                .andExpect(jsonPath("$[0].course.code").value("ROST1"));
+        assertEquals(1, stats.getPrepareStatementCount());
+
+        stats.clear();
+        mvc.perform(get("/api/enrollments/by-student/{id}", firstStudent))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].course.title").exists());
+        assertEquals(1, stats.getPrepareStatementCount());
+    }
+
+    @Test
+    void rosterExportStreamsCsvAndNdjson() throws Exception {
+        Course c = courses.save(Course.builder().code("EXP1").title("Export, Advanced").build());
+        for (int i = 0; i < 5; i++) {
+            Student s = students.save(Student.builder().indexNumber("EXP" + i).firstName("F" + i).lastName("L" + i)
+                    .email("export" + i + "@uni.test").build());
+            enrollmentService.enroll(s.getId(), c.getId());
+        }
+
+        MvcResult csv = mvc.perform(get("/api/enrollments/by-course/{id}/export", c.getId()))
+                .andExpect(request().asyncStarted()).andReturn();
+        String body = mvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("text/csv")))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(6, lines.length);
+        assertTrue(lines[1].contains("\"Export, Advanced\""));
+
+        MvcResult ndjson = mvc.perform(get("/api/enrollments/by-course/{id}/export", c.getId()).param("format", "NDJSON"))
+                .andExpect(request().asyncStarted()).andReturn();
+        body = mvc.perform(asyncDispatch(ndjson)).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(5, body.lines().count());
+        assertTrue(body.startsWith("{\"enrollmentId\":"));
+    }
+
+    @Test
+    void exportsAreForInstructorsAndAdmins() throws Exception {
+        mvc.perform(get("/api/enrollments/export").with(user("student").roles("STUDENT")))
+                .andExpect(status().isForbidden());
+        mvc.perform(get("/api/enrollments/by-course/{id}/export", 1).with(user("student").roles("STUDENT")))
+                .andExpect(status().isForbidden());
+        mvc.perform(get("/api/enrollments/export").with(user("instructor").roles("INSTRUCTOR")))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void batchIsForInstructorsAndAdminsAndBounded() throws Exception {
+        mvc.perform(post("/api/enrollments/batch").with(user("student").roles("STUDENT"))
+                        .contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isForbidden());
+
+        String oversized = "[" + String.join(",", Collections.nCopies(EnrollmentService.MAX_BATCH_ROWS + 1,
+                "{\"studentId\":1,\"courseId\":1}")) + "]";
+        mvc.perform(post("/api/enrollments/batch").contentType(MediaType.APPLICATION_JSON).content(oversized))
+                .andExpect(status().isBadRequest());
+    }
+}
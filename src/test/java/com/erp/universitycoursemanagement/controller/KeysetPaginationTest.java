@@ -0,0 +1,95 @@
+package com.erp.universitycoursemanagement.controller;
+
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.erp.universitycoursemanagement.service.EnrollmentService;
+import com.erp.universitycoursemanagement.service.StudentService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class KeysetPaginationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper json;
+    @Autowired StudentService studentService;
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired StudentRepository students;
+    @Autowired CourseRepository courses;
+    @Autowired EntityManagerFactory emf;
+
+    /** Follows nextCursor to the end, checking every page is a single statement (no COUNT). */
+    private List<JsonNode> walk(String path, int size) throws Exception {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        List<JsonNode> all = new ArrayList<>();
+        String cursor = "";
+        do {
+            stats.clear();
+            String body = mvc.perform(get(path).param("cursor", cursor).param("size", String.valueOf(size)))
+                    .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+            assertEquals(1, stats.getPrepareStatementCount());
+            JsonNode page = json.readTree(body);
+            assertTrue(page.get("items").size() <= size);
+            page.get("items").forEach(all::add);
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+        return all;
+    }
+
+    @Test
+    void studentPagesCoverEveryRowOnceInNameOrder() throws Exception {
+        // duplicate names force the id tie-breaker
+        for (int i = 0; i < 25; i++)
+            students.save(Student.builder().indexNumber("KS" + i).firstName(i % 2 == 0 ? "Ann" : "Bob")
+                    .lastName("Keyset" + (i % 3)).email("ks" + i + "@uni.test").build());
+
+        List<JsonNode> rows = walk("/api/students", 7);
+        assertEquals(studentService.count(), rows.size());
+        Comparator<JsonNode> order = Comparator.<JsonNode, String>comparing(n -> n.get("lastName").asText())
+                .thenComparing(n -> n.get("firstName").asText()).thenComparingLong(n -> n.get("id").asLong());
+        for (int i = 1; i < rows.size(); i++) assertTrue(order.compare(rows.get(i - 1), rows.get(i)) < 0);
+
+        assertThrows(IllegalArgumentException.class, () -> studentService.listAfter("bm90LWEtY3Vyc29y", 10));
+    }
+
+    @Test
+    void courseAndRosterPages() throws Exception {
+        Course c = courses.save(Course.builder().code("KS-ROSTER").title("Keyset Roster").capacity(100).build());
+        for (int i = 0; i < 23; i++) {
+            Student s = students.save(Student.builder().indexNumber("KSR" + i).firstName("R").lastName("Roster")
+                    .email("ksr" + i + "@uni.test").build());
+            enrollmentService.enroll(s.getId(), c.getId());
+        }
+
+        List<JsonNode> roster = walk("/api/enrollments/by-course/" + c.getId(), 5);
+        assertEquals(23, roster.size());
+        assertEquals(23, enrollmentService.countByCourse(c.getId()));
+        assertEquals("KS-ROSTER", roster.get(22).get("course").get("code").asText());
+
+        List<JsonNode> all = walk("/api/courses", 4);
+        assertEquals(courses.count(), all.size());
+        for (int i = 1; i < all.size(); i++)
+            assertTrue(all.get(i - 1).get("code").asText().compareTo(all.get(i).get("code").asText()) < 0);
+    }
+}
@@ -0,0 +1,73 @@
+package com.erp.universitycoursemanagement.controller;
+
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.profiling.SlowQueryLog;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class SlowQueryLogTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper json;
+    @Autowired SlowQueryLog slowQueries;
+    @Autowired StudentRepository students;
+
+    @AfterEach
+    void restoreThreshold() {
+        slowQueries.setThresholdMs(200);
+        slowQueries.clear();
+    }
+
+    @Test
+    void recordsSqlWithRedactedBindsAndPlan() throws Exception {
+        students.save(Student.builder().indexNumber("SLOW1").firstName("Grace").lastName("Hopper")
+                .email("slow1@uni.test").build());
+        mvc.perform(delete("/api/admin/slow-queries")).andExpect(status().isOk());
+        mvc.perform(put("/api/admin/slow-queries/threshold").param("ms", "0")).andExpect(status().isOk());
+
+        assertEquals(1, students.search("hopp").size());
+
+        JsonNode search = null;
+        for (int attempt = 0; attempt < 50; attempt++) {
+            search = find(mvc.perform(get("/api/admin/slow-queries")).andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            if (search != null && !search.get("plan").isNull()) break;
+            Thread.sleep(100);
+        }
+        assertNotNull(search, "search statement was not recorded");
+        assertTrue(search.get("params").toString().contains("<string:6>"), search.toString()); // "%hopp%"
+        assertFalse(search.toString().contains("hopp"), "bind values must be redacted");
+        assertFalse(search.get("plan").isNull(), "plan was not captured");
+        assertFalse(search.get("plan").asText().startsWith("EXPLAIN failed"), search.get("plan").asText());
+    }
+
+    @Test
+    void thresholdMustNotBeNegative() {
+        assertThrows(IllegalArgumentException.class, () -> slowQueries.setThresholdMs(-1));
+    }
+
+    private JsonNode find(String body) throws Exception {
+        for (JsonNode q : json.readTree(body)) {
+            String sql = q.get("sql").asText().toLowerCase();
+            if (sql.startsWith("select") && sql.contains("from students") && sql.contains("like")) return q;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,82 @@
+package com.erp.universitycoursemanagement.controller;
+
+import com.erp.universitycoursemanagement.config.SqlStatementBudgetFilter;
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Enrollment;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.EnrollmentRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.erp.universitycoursemanagement.service.EnrollmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.erp.universitycoursemanagement.SqlStatementAssertions.assertAtMostStatements;
+import static com.erp.universitycoursemanagement.SqlStatementAssertions.atMostStatements;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.sqlStats.headers=true")
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class SqlStatementBudgetTest {
+
+    private static final int STUDENTS = 6;
+
+    @Autowired MockMvc mvc;
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired StudentRepository students;
+    @Autowired CourseRepository courses;
+    @Autowired EnrollmentRepository enrollments;
+    @Autowired TransactionTemplate tx;
+
+    Course course;
+    Student first;
+
+    @BeforeEach
+    void seed() {
+        String tag = "NP" + System.nanoTime() % 1_000_000;
+        course = courses.save(Course.builder().code(tag).title("N+1").credits(3).capacity(STUDENTS).build());
+        for (int i = 0; i < STUDENTS; i++) {
+            Student s = students.save(Student.builder().indexNumber(tag + "-" + i).firstName("S" + i)
+                    .lastName("Plus").email(tag.toLowerCase() + i + "@uni.test").build());
+            if (first == null) first = s;
+            enrollmentService.enroll(s.getId(), course.getId());
+        }
+    }
+
+    @Test
+    void enrollmentListsStayWithinTwoStatements() throws Exception {
+        mvc.perform(get("/api/enrollments/by-course/" + course.getId())).andExpect(status().isOk()).andExpect(atMostStatements(2));
+        mvc.perform(get("/api/enrollments/by-student/" + first.getId())).andExpect(status().isOk()).andExpect(atMostStatements(2));
+        mvc.perform(get("/api/enrollments/by-course/" + course.getId()).param("cursor", "").param("size", "3"))
+                .andExpect(status().isOk()).andExpect(atMostStatements(2));
+        assertAtMostStatements(1, () -> enrollmentService.byCourse(course.getId()));
+    }
+
+    @Test
+    void countsAreSentAsHeaders() throws Exception {
+        MvcResult result = mvc.perform(get("/api/enrollments/by-course/" + course.getId())).andExpect(status().isOk()).andReturn();
+        int statements = Integer.parseInt(result.getResponse().getHeader(SqlStatementBudgetFilter.STATEMENTS_HEADER));
+        assertTrue(statements >= 1 && statements <= 2, "statements=" + statements);
+        assertNotNull(result.getResponse().getHeader(SqlStatementBudgetFilter.TIME_HEADER));
+    }
+
+    @Test
+    void lazyAssociationLoopIsCaught() {
+        // the pattern the entity graphs exist to prevent: one SELECT per enrollment for its student
+        AssertionError error = assertThrows(AssertionError.class, () -> assertAtMostStatements(2, () -> tx.executeWithoutResult(t -> {
+            for (Enrollment e : enrollments.findAll())
+                if (e.getCourse().getId().equals(course.getId())) e.getStudent().getLastName();
+        })));
+        assertTrue(error.getMessage().contains("expected at most 2"), error.getMessage());
+    }
+}
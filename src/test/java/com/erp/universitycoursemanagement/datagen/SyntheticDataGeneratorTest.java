@@ -0,0 +1,94 @@
+package com.erp.universitycoursemanagement.datagen;
+
+import com.erp.universitycoursemanagement.dto.LoginRequest;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.erp.universitycoursemanagement.search.StudentSearchIndex;
+import com.erp.universitycoursemanagement.service.AuthService;
+import com.erp.universitycoursemanagement.service.EnrollmentService;
+import com.erp.universitycoursemanagement.service.GpaAggregateService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SyntheticDataGeneratorTest {
+
+    @Autowired SyntheticDataGenerator generator;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired GpaAggregateService gpaAggregate;
+    @Autowired StudentRepository students;
+    @Autowired StudentSearchIndex searchIndex;
+    @Autowired AuthService authService;
+
+    private final DatasetSpec spec = DatasetSpec.builder().students(500).courses(40).users(30)
+            .distinctPasswords(2).bcryptStrength(4).seed(7).build();
+
+    @Test
+    void sameSeedGivesTheSameDataset() {
+        GeneratedDataset a = generator.generate(spec.toBuilder().prefix("DGA").build());
+        GeneratedDataset b = generator.generate(spec.toBuilder().prefix("DGB").build());
+
+        assertEquals(500, a.getStudentIds().length);
+        assertEquals(40, a.getCourseIds().length);
+        assertEquals(a.getEnrollments(), count("SELECT COUNT(*) FROM enrollments e JOIN students s ON s.id = e.student_id"
+                + " WHERE s.index_number LIKE 'DGA%'"));
+        assertTrue(a.getEnrollments() >= 500L * spec.getMinEnrollmentsPerStudent());
+        assertEquals(a.getEnrollments(), b.getEnrollments());
+        assertEquals(a.getGradedEnrollments(), b.getGradedEnrollments());
+        assertEquals(rows("DGA"), rows("DGB"));
+        // no admin accounts unless asked for
+        assertEquals(0, count("SELECT COUNT(*) FROM users WHERE username LIKE 'dga-%' AND role = 'ADMIN'"));
+        assertTrue(a.getAdminPasswords().isEmpty());
+        // passwords embed the prefix, so only the BCrypt salts are comparable across the two datasets
+        assertEquals(jdbc.queryForList("SELECT SUBSTRING(password, 1, 29) FROM users WHERE username LIKE 'dga-%' ORDER BY id", String.class),
+                jdbc.queryForList("SELECT SUBSTRING(password, 1, 29) FROM users WHERE username LIKE 'dgb-%' ORDER BY id", String.class));
+
+        // popularity is skewed: the first course is far fuller than the median one
+        List<Integer> seats = jdbc.queryForList("SELECT seats_taken FROM courses WHERE code LIKE 'DGA-%' ORDER BY code", Integer.class);
+        assertTrue(seats.get(0) > 3 * seats.stream().sorted().toList().get(seats.size() / 2), seats.toString());
+        assertEquals(0, count("SELECT COUNT(*) FROM courses WHERE code LIKE 'DGA-%' AND seats_taken > capacity"));
+    }
+
+    @Test
+    void generatedDataIsConsistentWithTheApplication() {
+        GeneratedDataset d = generator.generate(spec.toBuilder().prefix("DGC").admins(1).build());
+
+        // GPA aggregates and seat counts match what the services would have written
+        assertEquals(0, gpaAggregate.rebuild());
+        assertEquals(0, count("SELECT COUNT(*) FROM courses c WHERE c.code LIKE 'DGC-%'"
+                + " AND c.seats_taken <> (SELECT COUNT(*) FROM enrollments e WHERE e.course_id = c.id)"));
+
+        // the id generator was moved past the generated block
+        Student s = students.save(Student.builder().indexNumber("DGC-NEW").firstName("New").lastName("Student")
+                .email("dgc-new@uni.test").build());
+        assertNotNull(enrollmentService.enroll(s.getId(), d.getCourseIds()[d.getCourseIds().length - 1]).getId());
+
+        assertFalse(searchIndex.search("dgc000000001", PageRequest.of(0, 5)).isEmpty(), "search index was refreshed");
+        assertNotNull(authService.login(new LoginRequest(d.getSpec().username(1), d.getSpec().password(1))).getToken());
+        String admin = d.getSpec().adminUsername(0);
+        assertEquals(1, count("SELECT COUNT(*) FROM users WHERE username = '" + admin + "' AND role = 'ADMIN'"));
+        assertNotNull(authService.login(new LoginRequest(admin, d.getAdminPasswords().get(admin))).getToken());
+        assertFalse(d.toString().contains(d.getAdminPasswords().get(admin)), "admin passwords stay out of the log");
+        assertThrows(IllegalStateException.class, () -> generator.generate(spec.toBuilder().prefix("DGC").build()));
+    }
+
+    private List<String> rows(String prefix) {
+        return jdbc.queryForList("""
+                SELECT CONCAT(SUBSTRING(s.index_number, 4), ':', SUBSTRING(c.code, 4), ':', COALESCE(CAST(e.grade AS VARCHAR(8)), '-'), ':', e.enrolled_at)
+                FROM enrollments e JOIN students s ON s.id = e.student_id JOIN courses c ON c.id = e.course_id
+                WHERE s.index_number LIKE ? ORDER BY e.id
+                """, String.class, prefix + "%");
+    }
+
+    private long count(String sql) {
+        return jdbc.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,255 @@
+package com.erp.universitycoursemanagement.loadtest;
+
+import com.erp.universitycoursemanagement.UniversityCourseManagementApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registration day against the whole stack: the application runs in-process on an embedded H2 database
+ * (profile {@code loadtest}) and {@code loadtest.students} students arrive at an even rate over
+ * {@code loadtest.rampSeconds}. Each one logs in, pages through the catalog, enrolls in a few courses
+ * (most picks go to the few hot ones, which fill up) and reads their GPA. Arrivals are open-loop, so a slow
+ * server faces a growing backlog instead of a politely slower client.
+ * <p>
+ * Per endpoint it prints throughput, errors by status and p50/p95/p99/p99.9 latency, and writes the full
+ * HdrHistogram percentile distribution (milliseconds) to {@code loadtest.out}/&lt;endpoint&gt;.hgrm.
+ * <pre>
+ * mvn -Ploadtest -DskipTests verify [-Dloadtest.args="-Dloadtest.students=2000 -Dloadtest.rampSeconds=30"]
+ * </pre>
+ */
+public final class RegistrationDayLoad {
+
+    static final String PASSWORD = "registration-day";
+
+    private final int students = Integer.getInteger("loadtest.students", 20_000);
+    private final int rampSeconds = Integer.getInteger("loadtest.rampSeconds", 300);
+    private final int courses = Integer.getInteger("loadtest.courses", 200);
+    private final int hotCourses = Integer.getInteger("loadtest.hotCourses", 10);
+    private final int capacity = Integer.getInteger("loadtest.capacity", 200);
+    private final int enrollmentsPerStudent = Integer.getInteger("loadtest.enrollments", 3);
+    private final int coursePages = Integer.getInteger("loadtest.coursePages", 2);
+    private final Path out = Path.of(System.getProperty("loadtest.out", "target/loadtest"));
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+    private final ObjectMapper json = new ObjectMapper();
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+    private String base;
+    private long[] studentIds;
+    private long[] courseIds;
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(UniversityCourseManagementApplication.class)
+                .profiles("loadtest")
+                .logStartupInfo(false)
+                .run(args);
+        int exit = 0;
+        try {
+            RegistrationDayLoad load = new RegistrationDayLoad();
+            load.base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            load.seed(context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class));
+            load.run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            exit = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exit);
+    }
+
+    private void seed(JdbcTemplate jdbc, PasswordEncoder encoder) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int c = 0; c < courses; c++)
+            rows.add(new Object[]{String.format("REG-%03d", c), (c < hotCourses ? "Popular " : "Elective ") + c, 3, capacity});
+        jdbc.batchUpdate("INSERT INTO courses (code, title, credits, capacity, seats_taken) VALUES (?,?,?,?,0)", rows);
+        courseIds = ids(jdbc, "SELECT id FROM courses WHERE code LIKE 'REG-%' ORDER BY code");
+
+        // every student shares one password, so the hash is computed once; each login still verifies it
+        String hash = encoder.encode(PASSWORD);
+        List<Object[]> users = new ArrayList<>();
+        rows.clear();
+        for (int i = 0; i < students; i++) {
+            rows.add(new Object[]{String.format("REG%07d", i), "Reg", "Student" + i, "reg" + i + "@uni.test"});
+            users.add(new Object[]{username(i), "reg" + i + "@uni.test", hash});
+        }
+        jdbc.batchUpdate("INSERT INTO students (index_number, first_name, last_name, email) VALUES (?,?,?,?)", rows);
+        jdbc.batchUpdate("INSERT INTO users (username, email, password, role, status) VALUES (?,?,?,'STUDENT','ACTIVE')", users);
+        studentIds = ids(jdbc, "SELECT id FROM students WHERE index_number LIKE 'REG%' ORDER BY index_number");
+    }
+
+    private static long[] ids(JdbcTemplate jdbc, String sql) {
+        return jdbc.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static String username(int i) {
+        return "reg-" + i;
+    }
+
+    private void run() throws Exception {
+        for (String name : List.of("POST /api/auth/login", "GET /api/courses", "POST /api/enrollments/enroll",
+                "GET /api/enrollments/gpa/{id}"))
+            endpoints.put(name, new Endpoint(name));
+
+        System.out.printf("registration day: %d students over %d s, %d courses (%d hot, capacity %d)%n",
+                students, rampSeconds, courses, hotCourses, capacity);
+        ScheduledExecutorService arrivals = Executors.newSingleThreadScheduledExecutor();
+        List<CompletableFuture<Void>> sessions = Collections.synchronizedList(new ArrayList<>(students));
+        long intervalNanos = TimeUnit.SECONDS.toNanos(rampSeconds) / Math.max(1, students);
+        long start = System.nanoTime();
+        for (int i = 0; i < students; i++) {
+            int student = i;
+            arrivals.schedule(() -> { sessions.add(session(student)); }, i * intervalNanos, TimeUnit.NANOSECONDS);
+        }
+        arrivals.shutdown();
+        arrivals.awaitTermination(rampSeconds + 60L, TimeUnit.SECONDS);
+        CompletableFuture.allOf(sessions.toArray(CompletableFuture[]::new)).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        report(seconds);
+    }
+
+    private CompletableFuture<Void> session(int i) {
+        Random random = new Random(i);
+        String login = "{\"username\":\"" + username(i) + "\",\"password\":\"" + PASSWORD + "\"}";
+        return send("POST /api/auth/login", HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(login)))
+                .thenCompose(body -> {
+                    String token = body == null ? null : body.path("token").asText(null);
+                    if (token == null) return CompletableFuture.completedFuture(null);
+                    return coursePage(token, "", coursePages)
+                            .thenCompose(ignored -> enroll(token, studentIds[i], pickCourses(random), 0))
+                            .thenCompose(ignored -> send("GET /api/enrollments/gpa/{id}",
+                                    authorized(token, "/api/enrollments/gpa/" + studentIds[i]).GET()))
+                            .thenApply(ignored -> null);
+                });
+    }
+
+    private CompletableFuture<Void> coursePage(String token, String cursor, int pagesLeft) {
+        if (pagesLeft == 0) return CompletableFuture.completedFuture(null);
+        String path = "/api/courses?size=20&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+        return send("GET /api/courses", authorized(token, path).GET()).thenCompose(page -> {
+            String next = page == null ? null : page.path("nextCursor").asText(null);
+            return next == null ? CompletableFuture.completedFuture(null) : coursePage(token, next, pagesLeft - 1);
+        });
+    }
+
+    private CompletableFuture<Void> enroll(String token, long studentId, long[] picks, int k) {
+        if (k == picks.length) return CompletableFuture.completedFuture(null);
+        String path = "/api/enrollments/enroll?studentId=" + studentId + "&courseId=" + picks[k];
+        return send("POST /api/enrollments/enroll", authorized(token, path).POST(HttpRequest.BodyPublishers.noBody()))
+                .thenCompose(ignored -> enroll(token, studentId, picks, k + 1));
+    }
+
+    /** Distinct courses; four picks in five go to a hot course. */
+    private long[] pickCourses(Random random) {
+        Set<Long> picks = new LinkedHashSet<>();
+        int n = Math.min(enrollmentsPerStudent, courseIds.length);
+        while (picks.size() < n) {
+            boolean hot = hotCourses > 0 && random.nextInt(5) < 4;
+            picks.add(hot ? courseIds[random.nextInt(Math.min(hotCourses, courseIds.length))]
+                    : courseIds[random.nextInt(courseIds.length)]);
+        }
+        return picks.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private URI uri(String path) {
+        return URI.create(base + path);
+    }
+
+    private HttpRequest.Builder authorized(String token, String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + token);
+    }
+
+    /** Sends one request and records it; completes with the parsed JSON body of a 2xx response, else null. */
+    private CompletableFuture<JsonNode> send(String endpoint, HttpRequest.Builder request) {
+        Endpoint e = endpoints.get(endpoint);
+        long sent = System.nanoTime();
+        return http.sendAsync(request.timeout(Duration.ofSeconds(60)).build(), HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> {
+                    e.latency.recordValue(Math.min(e.latency.getHighestTrackableValue(), (System.nanoTime() - sent) / 1000));
+                    if (failure != null) {
+                        e.status("failed");
+                        return null;
+                    }
+                    e.status(String.valueOf(response.statusCode()));
+                    if (response.statusCode() / 100 != 2) return null;
+                    try {
+                        return json.readTree(response.body());
+                    } catch (IOException ex) {
+                        return null;
+                    }
+                });
+    }
+
+    private void report(double seconds) throws IOException {
+        Files.createDirectories(out);
+        System.out.printf("%n%-30s %8s %8s %7s %9s %9s %9s %9s %9s  %s%n", "endpoint", "requests", "errors",
+                "err %", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "statuses");
+        for (Endpoint e : endpoints.values()) {
+            Histogram h = e.latency;
+            long total = h.getTotalCount();
+            long errors = e.errors();
+            System.out.printf("%-30s %8d %8d %7.2f %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n", e.name, total, errors,
+                    total == 0 ? 0 : 100.0 * errors / total, total / seconds, ms(h, 50), ms(h, 95), ms(h, 99), ms(h, 99.9),
+                    e.statuses());
+            try (PrintStream file = new PrintStream(Files.newOutputStream(out.resolve(e.fileName())))) {
+                h.outputPercentileDistribution(file, 1000.0);
+            }
+        }
+        System.out.printf("%nrun took %.1f s; percentile distributions in %s%n", seconds, out.toAbsolutePath());
+    }
+
+    private static double ms(Histogram h, double percentile) {
+        return h.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static final class Endpoint {
+        final String name;
+        final ConcurrentHistogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(2), 3); // microseconds
+        final Map<String, LongAdder> statuses = new ConcurrentSkipListMap<>();
+
+        Endpoint(String name) {
+            this.name = name;
+        }
+
+        void status(String status) {
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+
+        long errors() {
+            return statuses.entrySet().stream().filter(s -> !s.getKey().startsWith("2"))
+                    .mapToLong(s -> s.getValue().sum()).sum();
+        }
+
+        String statuses() {
+            StringJoiner j = new StringJoiner(" ");
+            statuses.forEach((status, n) -> j.add(status + "=" + n.sum()));
+            return j.toString();
+        }
+
+        String fileName() {
+            return name.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.erp.universitycoursemanagement.search;
+
+import com.erp.universitycoursemanagement.dto.CourseSuggestion;
+import com.erp.universitycoursemanagement.model.Course;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseSuggestIndexTest {
+
+    private static Course course(long id, String code, String title) {
+        return Course.builder().id(id).code(code).title(title).build();
+    }
+
+    private static List<String> codes(List<CourseSuggestion> s) {
+        return s.stream().map(CourseSuggestion::getCode).toList();
+    }
+
+    @Test
+    void codeMatchesFirstThenTitleWords() {
+        CourseSuggestIndex index = new CourseSuggestIndex(null);
+        index.put(course(1, "CS101", "Introduction to Computing"));
+        index.put(course(2, "CS201", "Data Structures"));
+        index.put(course(3, "MA101", "Calculus for Computer Science"));
+        index.put(course(4, "CSE300", "Compilers"));
+
+        assertEquals(List.of("CS101", "CS201", "CSE300"), codes(index.suggest("cs", 10)));
+        assertEquals(List.of("CSE300", "MA101", "CS101"), codes(index.suggest("com", 10)));
+        assertEquals(List.of("MA101"), codes(index.suggest("comp sci", 10)));
+        assertEquals(List.of("CS101"), codes(index.suggest("CS1", 10)));
+        assertEquals(1, index.suggest("c", 1).size());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() {
+        CourseSuggestIndex index = new CourseSuggestIndex(null);
+        index.put(course(1, "PH100", "Physics"));
+        index.put(course(1, "PH100", "Philosophy"));
+        assertEquals(List.of("PH100"), codes(index.suggest("philo", 5)));
+        assertTrue(index.suggest("physics", 5).isEmpty());
+        index.remove(1L);
+        assertTrue(index.suggest("ph", 5).isEmpty());
+    }
+
+    /**
+     * Wall-clock budget, so opt-in: shared CI machines would make it flaky.
+     * {@code mvn test -Dtest=CourseSuggestIndexTest -Dbenchmark=true}
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void p99UnderOneMillisecondOnLargeCatalog() {
+        String[] words = {"advanced", "introduction", "data", "systems", "theory", "applied", "computing", "networks",
+                "biology", "chemistry", "statistics", "economics", "design", "analysis", "management", "law"};
+        String[] depts = {"CS", "MA", "PH", "BI", "CH", "EC", "LA", "ST", "EN", "ME"};
+        Random rnd = new Random(1);
+        List<Course> catalog = new ArrayList<>();
+        for (long id = 1; id <= 20_000; id++) {
+            String title = words[rnd.nextInt(words.length)] + " " + words[rnd.nextInt(words.length)] + " " + id;
+            catalog.add(course(id, depts[rnd.nextInt(depts.length)] + id, title));
+        }
+        CourseSuggestIndex index = new CourseSuggestIndex(null);
+        index.load(catalog);
+
+        String[] queries = new String[20_000];
+        for (int i = 0; i < queries.length; i++) {
+            String src = rnd.nextBoolean() ? words[rnd.nextInt(words.length)] : depts[rnd.nextInt(depts.length)] + rnd.nextInt(2000);
+            queries[i] = src.substring(0, 1 + rnd.nextInt(src.length()));
+        }
+        for (String q : queries) index.suggest(q, 10);
+
+        long[] nanos = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            long t0 = System.nanoTime();
+            index.suggest(queries[i], 10);
+            nanos[i] = System.nanoTime() - t0;
+        }
+        Arrays.sort(nanos);
+        double p99 = nanos[nanos.length * 99 / 100] / 1e6;
+        System.out.printf("course suggest @ 20000 courses p50=%.3fms p99=%.3fms%n", nanos[nanos.length / 2] / 1e6, p99);
+        assertTrue(p99 < 1.0, "p99 " + p99 + "ms");
+    }
+}
@@ -0,0 +1,83 @@
+package com.erp.universitycoursemanagement.search;
+
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Latency of the trigram index against the LIKE scan it replaces. Opt-in because seeding takes a while:
+ * {@code mvn test -Dtest=StudentSearchBenchmarkTest -Dbenchmark=true [-Dbenchmark.students=500000]}
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StudentSearchBenchmarkTest {
+
+    private static final String[] LAST = {"Perera", "Silva", "Fernando", "Jayawardena", "Bandara", "Dissanayake",
+            "Kumara", "Herath", "Wickramasinghe", "Rajapaksa", "Gunawardena", "Senanayake", "Amarasinghe", "Ekanayake"};
+    private static final String[] FIRST = {"Nimal", "Kamal", "Sunil", "Amali", "Dilani", "Kasun", "Tharindu", "Ishara",
+            "Chamara", "Sanduni", "Lahiru", "Nadeesha", "Ruwan", "Hiruni"};
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired StudentRepository students;
+    @Autowired StudentSearchIndex index;
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM students WHERE index_number LIKE 'BENCH%'");
+        index.rebuild();
+    }
+
+    @Test
+    void indexVersusLike() {
+        int n = Integer.getInteger("benchmark.students", 500_000);
+        Random rnd = new Random(7);
+        List<Object[]> batch = new ArrayList<>(5000);
+        for (int i = 0; i < n; i++) {
+            String first = FIRST[rnd.nextInt(FIRST.length)], last = LAST[rnd.nextInt(LAST.length)];
+            batch.add(new Object[]{"BENCH" + i, first, last, first.toLowerCase() + "." + last.toLowerCase() + i + "@uni.lk"});
+            if (batch.size() == 5000 || i == n - 1) {
+                jdbc.batchUpdate("INSERT INTO students (index_number, first_name, last_name, email) VALUES (?,?,?,?)", batch);
+                batch.clear();
+            }
+        }
+        index.rebuild();
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String src = rnd.nextBoolean() ? LAST[rnd.nextInt(LAST.length)] : "BENCH" + rnd.nextInt(n);
+            queries.add(src.substring(0, 3 + rnd.nextInt(src.length() - 2)));
+        }
+
+        long[] indexed = time(queries, q -> index.search(q, PageRequest.of(0, 20)));
+        long[] like = time(queries.subList(0, 20), q -> students.search(q));
+        System.out.printf("student search @ %d rows  index p50=%.2fms p99=%.2fms  LIKE p50=%.2fms p99=%.2fms%n",
+                n, pct(indexed, 50), pct(indexed, 99), pct(like, 50), pct(like, 99));
+    }
+
+    private static long[] time(List<String> queries, Consumer<String> call) {
+        queries.stream().limit(5).forEach(call);
+        long[] out = new long[queries.size()];
+        for (int i = 0; i < out.length; i++) {
+            long t0 = System.nanoTime();
+            call.accept(queries.get(i));
+            out[i] = System.nanoTime() - t0;
+        }
+        Arrays.sort(out);
+        return out;
+    }
+
+    private static double pct(long[] sorted, int p) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * p / 100)] / 1e6;
+    }
+}
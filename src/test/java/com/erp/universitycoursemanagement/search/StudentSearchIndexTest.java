@@ -0,0 +1,81 @@
+package com.erp.universitycoursemanagement.search;
+
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import com.erp.universitycoursemanagement.service.StudentService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class StudentSearchIndexTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired StudentService studentService;
+
+    @Test
+    void searchEndpointFollowsCreatesUpdatesAndDeletes() throws Exception {
+        Student a = studentService.create(Student.builder().indexNumber("SRCH01").firstName("Quentin")
+                .lastName("Quixotic").email("qq@uni.test").build());
+        studentService.create(Student.builder().indexNumber("SRCH02").firstName("Quixote")
+                .lastName("Alonso").email("alonso@uni.test").build());
+
+        mvc.perform(get("/api/students/search").param("q", "quix").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].indexNumber").value("SRCH01"));
+
+        Student renamed = Student.builder().indexNumber("SRCH01").firstName("Quentin").lastName("Zeller")
+                .email("qq@uni.test").build();
+        studentService.update(a.getId(), renamed);
+        mvc.perform(get("/api/students/search").param("q", "quixo"))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].indexNumber").value("SRCH02"));
+
+        studentService.delete(a.getId());
+        mvc.perform(get("/api/students/search").param("q", "zeller"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void changesDuringARebuildSurviveTheSwap() {
+        StudentRepository repo = Mockito.mock(StudentRepository.class);
+        StudentSearchIndex index = new StudentSearchIndex(repo);
+        // the rows were read before the changes below committed
+        Mockito.when(repo.streamSearchFields()).thenAnswer(inv -> Stream.of(
+                new Object[]{1L, "Oldname", "Ada", "RB01", "rb01@uni.test"},
+                new Object[]{2L, "Leaving", "Bob", "RB02", "rb02@uni.test"}
+        ).peek(row -> {
+            if (row[0].equals(1L)) {
+                index.put(Student.builder().id(1L).lastName("Newname").firstName("Ada").indexNumber("RB01").email("rb01@uni.test").build());
+                index.put(Student.builder().id(3L).lastName("Arrival").firstName("Cy").indexNumber("RB03").email("rb03@uni.test").build());
+                index.remove(2L);
+            }
+        }));
+
+        index.rebuild();
+
+        assertEquals(1, total(index, "newname"));
+        assertEquals(0, total(index, "oldname"));
+        assertEquals(1, total(index, "arrival"));
+        assertEquals(0, total(index, "leaving"));
+    }
+
+    private static long total(StudentSearchIndex index, String q) {
+        return index.search(q, PageRequest.of(0, 5)).getTotalElements();
+    }
+}
@@ -0,0 +1,72 @@
+package com.erp.universitycoursemanagement.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private static final String[] NAMES = {"Perera", "Silva", "Fernando", "de Silva", "Jayawardena", "Bandara",
+            "Dissanayake", "Kumara", "Herath", "Wickramasinghe", "Rajapaksa", "Gunawardena"};
+
+    @Test
+    void resultsMatchSubstringSemantics() {
+        Random rnd = new Random(42);
+        TrigramIndex index = new TrigramIndex(4);
+        Map<Long, String[]> docs = new HashMap<>();
+        for (long id = 1; id <= 2000; id++) {
+            String last = NAMES[rnd.nextInt(NAMES.length)], first = NAMES[rnd.nextInt(NAMES.length)];
+            String[] doc = {last, first, "IT" + (20000 + rnd.nextInt(5000)), first.toLowerCase() + id + "@uni.lk"};
+            docs.put(id, doc);
+            index.put(id, doc);
+        }
+
+        for (String q : List.of("silva", "SIL", "an", "it2", "a", "dara", "de s", "uni.lk", "zzz", "1999@", "herath")) {
+            Set<Long> expected = new HashSet<>();
+            docs.forEach((id, d) -> {
+                for (String f : d) if (f.toLowerCase().contains(q.toLowerCase())) { expected.add(id); break; }
+            });
+            TrigramIndex.Result r = index.search(q, Integer.MAX_VALUE);
+            Set<Long> actual = new HashSet<>();
+            r.hits().forEach(h -> actual.add(h.id()));
+            assertEquals(expected, actual, "query " + q);
+            assertEquals(expected.size(), r.total());
+        }
+    }
+
+    @Test
+    void ranksExactThenPrefixThenSubstringAndLimits() {
+        TrigramIndex index = new TrigramIndex(4);
+        index.put(1, "Gunasekara", "Nimal", "IT1", "n1@uni.lk");
+        index.put(2, "Sekara", "Kamal", "IT2", "k2@uni.lk");
+        index.put(3, "Sekarage", "Amal", "IT3", "a3@uni.lk");
+        index.put(4, "Perera", "Sekara", "IT4", "s4@uni.lk");
+
+        List<Long> order = index.search("sekara", 10).hits().stream().map(TrigramIndex.Hit::id).toList();
+        assertEquals(List.of(2L, 4L, 3L, 1L), order);
+
+        TrigramIndex.Result top2 = index.search("sekara", 2);
+        assertEquals(4, top2.total());
+        assertEquals(List.of(2L, 4L), top2.hits().stream().map(TrigramIndex.Hit::id).toList());
+    }
+
+    @Test
+    void updatesAndRemovalsAreReflected() {
+        TrigramIndex index = new TrigramIndex(4);
+        index.put(1, "Perera", "Nimal", "IT1", "n1@uni.lk");
+        index.put(2, "Silva", "Kamal", "IT2", "k2@uni.lk");
+        assertEquals(1, index.search("perera", 10).total());
+
+        index.put(1, "Fonseka", "Nimal", "IT1", "n1@uni.lk");
+        assertEquals(0, index.search("perera", 10).total());
+        assertEquals(1, index.search("fonseka", 10).total());
+
+        index.remove(2);
+        assertEquals(0, index.search("silva", 10).total());
+        index.put(3, "Silva", "Sunil", "IT3", "s3@uni.lk");
+        assertEquals(List.of(3L), index.search("silva", 10).hits().stream().map(TrigramIndex.Hit::id).toList());
+        assertEquals(2, index.size());
+    }
+}
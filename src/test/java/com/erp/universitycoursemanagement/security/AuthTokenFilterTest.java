@@ -0,0 +1,81 @@
+package com.erp.universitycoursemanagement.security;
+
+import com.erp.universitycoursemanagement.model.Role;
+import com.erp.universitycoursemanagement.model.Status;
+import com.erp.universitycoursemanagement.model.User;
+import com.erp.universitycoursemanagement.service.UserDetailsServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthTokenFilterTest {
+
+    private final JwtUtils jwtUtils = new JwtUtils();
+    private final UserDetailsServiceImpl users = Mockito.mock(UserDetailsServiceImpl.class);
+    private final TokenRevocationList revocations = new TokenRevocationList(60_000, 1_000);
+
+    {
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", "UniversityCourseManagementSecretKeyForJWTSigningMustBe256BitsOrMore");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60_000);
+        ReflectionTestUtils.setField(jwtUtils, "cacheMaxSize", 100);
+        ReflectionTestUtils.setField(jwtUtils, "cacheMaxTtlMs", 600_000L);
+        jwtUtils.init();
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication authenticate(AuthTokenFilter filter, String jwt) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        request.addHeader("Authorization", "Bearer " + jwt);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return auth;
+    }
+
+    @Test
+    void statelessModeAuthenticatesFromClaimsWithoutLoadingTheUser() throws Exception {
+        AuthTokenFilter filter = new AuthTokenFilter(jwtUtils, users, revocations, true);
+        String jwt = jwtUtils.generateJwtToken(User.builder().username("dana").email("d@uni.test").password("x")
+                .role(Role.INSTRUCTOR).status(Status.ACTIVE).build());
+
+        Authentication auth = authenticate(filter, jwt);
+        assertEquals("dana", auth.getName());
+        assertEquals("ROLE_INSTRUCTOR", auth.getAuthorities().iterator().next().getAuthority());
+        Mockito.verifyNoInteractions(users);
+
+        revocations.revoke(jwtUtils.getVerifiedClaims(jwt));
+        assertNull(authenticate(filter, jwt));
+    }
+
+    @Test
+    void deactivatedUsersLoseTheirTokens() throws Exception {
+        AuthTokenFilter filter = new AuthTokenFilter(jwtUtils, users, revocations, true);
+        String jwt = jwtUtils.generateJwtToken(User.builder().username("eve").email("e@uni.test").password("x")
+                .role(Role.STUDENT).status(Status.ACTIVE).build());
+        assertNotNull(authenticate(filter, jwt));
+
+        revocations.revokeUser("eve");
+        assertNull(authenticate(filter, jwt));
+    }
+
+    @Test
+    void tokensWithoutClaimsFallBackToTheUserLookup() throws Exception {
+        AuthTokenFilter filter = new AuthTokenFilter(jwtUtils, users, revocations, true);
+        Mockito.when(users.loadUserByUsername("frank")).thenReturn(User.builder().username("frank")
+                .email("f@uni.test").password("x").role(Role.ADMIN).build());
+
+        assertEquals("frank", authenticate(filter, jwtUtils.generateTokenFromUsername("frank")).getName());
+        Mockito.verify(users).loadUserByUsername("frank");
+    }
+}
@@ -0,0 +1,42 @@
+package com.erp.universitycoursemanagement.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilsTest {
+
+    private static JwtUtils jwtUtils(int expirationMs) {
+        JwtUtils utils = new JwtUtils();
+        ReflectionTestUtils.setField(utils, "jwtSecret", "UniversityCourseManagementSecretKeyForJWTSigningMustBe256BitsOrMore");
+        ReflectionTestUtils.setField(utils, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(utils, "cacheMaxSize", 100);
+        ReflectionTestUtils.setField(utils, "cacheMaxTtlMs", 600_000L);
+        utils.init();
+        return utils;
+    }
+
+    @Test
+    void verifiesOnceAndServesRepeatsFromCache() {
+        JwtUtils utils = jwtUtils(60_000);
+        String token = utils.generateTokenFromUsername("alice");
+
+        assertEquals("alice", utils.getVerifiedClaims(token).getSubject());
+        assertSame(utils.getVerifiedClaims(token), utils.getVerifiedClaims(token));
+        assertTrue(utils.validateJwtToken(token));
+        assertEquals("alice", utils.getUserNameFromJwtToken(token));
+    }
+
+    @Test
+    void rejectsTamperedAndExpiredTokens() {
+        JwtUtils utils = jwtUtils(60_000);
+        String token = utils.generateTokenFromUsername("alice");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        assertNull(utils.getVerifiedClaims(tampered));
+        assertNull(utils.getVerifiedClaims("not-a-jwt"));
+
+        JwtUtils expiring = jwtUtils(-1_000);
+        assertNull(expiring.getVerifiedClaims(expiring.generateTokenFromUsername("bob")));
+    }
+}
@@ -0,0 +1,88 @@
+package com.erp.universitycoursemanagement.security;
+
+import com.erp.universitycoursemanagement.dto.LoginRequest;
+import com.erp.universitycoursemanagement.model.Role;
+import com.erp.universitycoursemanagement.model.Status;
+import com.erp.universitycoursemanagement.model.User;
+import com.erp.universitycoursemanagement.repository.UserRepository;
+import com.erp.universitycoursemanagement.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PasswordHashingTest {
+
+    @Autowired AuthService authService;
+    @Autowired UserRepository users;
+
+    @Test
+    void loginUpgradesHashesStoredAtALowerCost() {
+        // the test configuration hashes at cost 5
+        String old = new BCryptPasswordEncoder(4).encode("secret-1");
+        users.save(new User("rehash-user", "rehash@uni.test", old, Role.STUDENT, Status.ACTIVE));
+
+        assertNotNull(authService.login(new LoginRequest("rehash-user", "secret-1")).getToken());
+        String upgraded = users.findByUsernameAndStatus("rehash-user", Status.ACTIVE).orElseThrow().getPassword();
+        assertTrue(upgraded.startsWith("$2a$05$"), upgraded);
+
+        // the new hash verifies, and is not rewritten again
+        assertNotNull(authService.login(new LoginRequest("rehash-user", "secret-1")).getToken());
+        assertEquals(upgraded, users.findByUsernameAndStatus("rehash-user", Status.ACTIVE).orElseThrow().getPassword());
+    }
+
+    @Test
+    void fullQueueIsRejectedInsteadOfWaiting() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder slow = new BCryptPasswordEncoder(5) {
+            @Override
+            public boolean matches(CharSequence raw, String encoded) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.matches(raw, encoded);
+            }
+        };
+        String hash = new BCryptPasswordEncoder(4).encode("pw");
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 1, 2)) {
+            Future<Boolean> running = callers.submit(() -> encoder.matches("pw", hash));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<Boolean> queued1 = callers.submit(() -> encoder.matches("pw", hash));
+            Future<Boolean> queued2 = callers.submit(() -> encoder.matches("pw", hash));
+            while (encoder.queued() < 2) Thread.onSpinWait();
+
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.matches("pw", hash));
+            // hash is at cost 4, below the delegate's 5, but a busy queue postpones the upgrade
+            assertFalse(encoder.upgradeEncoding(hash));
+
+            release.countDown();
+            assertTrue(running.get(5, TimeUnit.SECONDS));
+            assertTrue(queued1.get(5, TimeUnit.SECONDS));
+            assertTrue(queued2.get(5, TimeUnit.SECONDS));
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void calibrationStaysWithinBounds() {
+        assertEquals(4, BcryptCostCalibrator.calibrate(0, 4, 6));
+        assertEquals(6, BcryptCostCalibrator.calibrate(60_000, 4, 6));
+        assertThrows(IllegalArgumentException.class, () -> BcryptCostCalibrator.calibrate(100, 8, 6));
+    }
+}
@@ -0,0 +1,51 @@
+package com.erp.universitycoursemanagement.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+    private static Claims claims(String subject, long issuedAtMs, long expiresAtMs) {
+        return Jwts.claims().id(UUID.randomUUID().toString()).subject(subject)
+                .issuedAt(new Date(issuedAtMs)).expiration(new Date(expiresAtMs)).build();
+    }
+
+    @Test
+    void revokesSingleTokensAndUsersUntilExpiry() {
+        TokenRevocationList list = new TokenRevocationList(60_000, 1_000);
+        long now = System.currentTimeMillis();
+        Claims a = claims("alice", now, now + 60_000), b = claims("alice", now, now + 60_000);
+
+        list.revoke(a);
+        assertTrue(list.isRevoked(a));
+        assertFalse(list.isRevoked(b));
+
+        list.revokeUser("bob");
+        assertTrue(list.isRevoked(claims("bob", now - 1_000, now + 60_000)));
+        assertFalse(list.isRevoked(claims("bob", now + 5_000, now + 60_000)), "tokens issued after the cut-off stay valid");
+
+        Claims expired = claims("carol", now - 10_000, now - 1);
+        list.revoke(expired);
+        assertFalse(list.isRevoked(expired));
+        list.sweep();
+        assertEquals(2, list.size());
+        assertTrue(list.isRevoked(a), "sweep keeps live entries in the rebuilt filter");
+    }
+
+    @Test
+    void staysExactWellPastTheExpectedSize() {
+        TokenRevocationList list = new TokenRevocationList(60_000, 1_000);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 20_000; i++) list.revokeUser("revoked-" + i);
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(list.isRevoked(claims("revoked-" + i, now - 1_000, now + 60_000)));
+            assertFalse(list.isRevoked(claims("active-" + i, now - 1_000, now + 60_000)));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.erp.universitycoursemanagement.security;
+
+import com.erp.universitycoursemanagement.config.CacheConfig;
+import com.erp.universitycoursemanagement.model.Role;
+import com.erp.universitycoursemanagement.model.Status;
+import com.erp.universitycoursemanagement.model.User;
+import com.erp.universitycoursemanagement.repository.UserRepository;
+import com.erp.universitycoursemanagement.service.UserDetailsServiceImpl;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class UserDetailsCacheTest {
+
+    @Autowired UserDetailsServiceImpl userDetails;
+    @Autowired UserRepository users;
+    @Autowired CacheManager cacheManager;
+    @Autowired TokenRevocationList revocations;
+
+    @Test
+    void cachesActiveUsersAndEvictsOnStatusChange() {
+        User u = users.save(new User("cache-user", "cache@uni.test", "secret1", Role.STUDENT, Status.ACTIVE));
+
+        CacheStats before = stats();
+        assertEquals("cache-user", userDetails.loadUserByUsername("cache-user").getUsername());
+        assertEquals("cache-user", userDetails.loadUserByUsername("cache-user").getUsername());
+        CacheStats after = stats().minus(before);
+        assertEquals(1, after.missCount());
+        assertEquals(1, after.hitCount());
+
+        u.setStatus(Status.DELETED);
+        users.save(u);
+        assertThrows(UsernameNotFoundException.class, () -> userDetails.loadUserByUsername("cache-user"));
+
+        // misses (unknown or inactive users) are never cached
+        u.setStatus(Status.ACTIVE);
+        users.save(u);
+        assertTrue(userDetails.loadUserByUsername("cache-user").isEnabled());
+    }
+
+    @Test
+    void roleChangeRevokesIssuedTokensButOtherUpdatesDoNot() {
+        User u = users.save(new User("role-user", "role@uni.test", "secret1", Role.STUDENT, Status.ACTIVE));
+        long now = System.currentTimeMillis();
+        Claims issued = Jwts.claims().subject("role-user").issuedAt(new Date(now - 1_000))
+                .expiration(new Date(now + 60_000)).build();
+
+        u.setPassword("rehashed");
+        users.save(u);
+        assertFalse(revocations.isRevoked(issued), "a password rehash keeps the session");
+
+        u.setRole(Role.INSTRUCTOR);
+        users.save(u);
+        assertTrue(revocations.isRevoked(issued), "tokens carrying the old role stop working");
+    }
+
+    private CacheStats stats() {
+        return ((CaffeineCache) cacheManager.getCache(CacheConfig.USER_DETAILS)).getNativeCache().stats();
+    }
+}
@@ -0,0 +1,89 @@
+package com.erp.universitycoursemanagement.service;
+
+import com.erp.universitycoursemanagement.dto.CacheRegionStats;
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CourseCacheTest {
+
+    private static final int ENROLLS = 200;
+
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired CourseService courseService;
+    @Autowired CacheStatsService cacheStats;
+    @Autowired StudentRepository students;
+    @Autowired CourseRepository courses;
+    @Autowired EntityManagerFactory emf;
+
+    /** Statements per enroll with a cold and a warm course cache; printed as the round-trip comparison. */
+    @Test
+    void warmCatalogSavesTheCourseLookupOnEveryEnroll() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        List<Course> catalog = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+            catalog.add(courses.save(Course.builder().code("L2C-" + i).title("Cached " + i).capacity(ENROLLS).build()));
+        List<Student> roster = new ArrayList<>();
+        for (int i = 0; i < 2 * ENROLLS; i++)
+            roster.add(students.save(Student.builder().indexNumber("L2C" + i).firstName("C").lastName("Cache" + i)
+                    .email("l2c" + i + "@uni.test").build()));
+
+        long cold = 0;
+        for (int i = 0; i < ENROLLS; i++) {
+            emf.getCache().evict(Course.class);
+            stats.clear();
+            enrollmentService.enroll(roster.get(i).getId(), catalog.get(i % catalog.size()).getId());
+            cold += stats.getPrepareStatementCount();
+        }
+
+        catalog.forEach(c -> courseService.get(c.getId()));
+        stats.clear();
+        for (int i = ENROLLS; i < 2 * ENROLLS; i++)
+            enrollmentService.enroll(roster.get(i).getId(), catalog.get(i % catalog.size()).getId());
+        long warm = stats.getPrepareStatementCount();
+
+        System.out.printf("statements per enroll: cold cache %.2f, warm cache %.2f%n",
+                (double) cold / ENROLLS, (double) warm / ENROLLS);
+        assertTrue(cold - warm >= ENROLLS, "every warm enroll should skip the course SELECT");
+        // stats were cleared before the warm run, so this is the warm run's ratio alone
+        assertEquals(ENROLLS, courseRegion().getHits());
+        assertEquals(1.0, courseRegion().getHitRatio());
+        assertEquals(2 * ENROLLS / catalog.size(), courses.findSeatsTaken(catalog.get(0).getId()).orElseThrow());
+    }
+
+    @Test
+    void findByCodeIsCachedAndInvalidatedByCatalogWrites() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        Course c = courses.save(Course.builder().code("QC-OLD").title("Query Cache").build());
+
+        courses.findByCode("QC-OLD").orElseThrow();
+        stats.clear();
+        assertEquals(c.getId(), courses.findByCode("QC-OLD").orElseThrow().getId());
+        assertEquals(0, stats.getPrepareStatementCount(), "query and entity both served from cache");
+
+        courseService.update(c.getId(), Course.builder().code("QC-NEW").title("Renamed").credits(4).capacity(50).build());
+        assertTrue(courses.findByCode("QC-OLD").isEmpty());
+        assertEquals("Renamed", courses.findByCode("QC-NEW").orElseThrow().getTitle());
+
+        courseService.delete(c.getId());
+        assertTrue(courses.findByCode("QC-NEW").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> courseService.get(c.getId()));
+    }
+
+    private CacheRegionStats courseRegion() {
+        return cacheStats.regions().stream().filter(r -> r.getRegion().equals(Course.CACHE_REGION)).findFirst().orElseThrow();
+    }
+}
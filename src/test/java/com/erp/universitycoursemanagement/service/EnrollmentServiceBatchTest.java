@@ -0,0 +1,72 @@
+package com.erp.universitycoursemanagement.service;
+
+import com.erp.universitycoursemanagement.dto.BatchEnrollmentRequest;
+import com.erp.universitycoursemanagement.dto.BatchEnrollmentResult;
+import com.erp.universitycoursemanagement.dto.BatchEnrollmentResult.Outcome;
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.EnrollmentRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EnrollmentServiceBatchTest {
+
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired StudentRepository students;
+    @Autowired CourseRepository courses;
+    @Autowired EnrollmentRepository enrollments;
+
+    @Test
+    void batchReportsPerRowOutcomeAndRespectsCapacity() {
+        Course small = courses.save(Course.builder().code("BATCH1").title("Small").capacity(3).build());
+        Course large = courses.save(Course.builder().code("BATCH2").title("Large").capacity(1000).build());
+        List<Student> cohort = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            cohort.add(Student.builder().indexNumber("BAT" + i).firstName("F" + i).lastName("L" + i)
+                    .email("batch" + i + "@uni.test").build());
+        }
+        cohort = students.saveAll(cohort);
+        enrollmentService.enroll(cohort.get(0).getId(), small.getId());
+
+        List<BatchEnrollmentRequest> rows = new ArrayList<>();
+        for (Student s : cohort) rows.add(new BatchEnrollmentRequest(s.getId(), large.getId()));
+        rows.add(new BatchEnrollmentRequest(cohort.get(0).getId(), small.getId()));
+        rows.add(new BatchEnrollmentRequest(cohort.get(1).getId(), small.getId()));
+        rows.add(new BatchEnrollmentRequest(cohort.get(2).getId(), small.getId()));
+        rows.add(new BatchEnrollmentRequest(cohort.get(3).getId(), small.getId()));
+        rows.add(new BatchEnrollmentRequest(cohort.get(1).getId(), large.getId()));
+        rows.add(new BatchEnrollmentRequest(-1L, large.getId()));
+        rows.add(new BatchEnrollmentRequest(cohort.get(4).getId(), -1L));
+        rows.add(new BatchEnrollmentRequest(null, large.getId()));
+
+        List<BatchEnrollmentResult> results = enrollmentService.enrollBatch(rows);
+
+        assertEquals(rows.size(), results.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(Outcome.ENROLLED, results.get(i).getOutcome());
+            assertNotNull(results.get(i).getEnrollmentId());
+        }
+        assertEquals(Outcome.ALREADY_ENROLLED, results.get(500).getOutcome());
+        assertEquals(Outcome.ENROLLED, results.get(501).getOutcome());
+        assertEquals(Outcome.ENROLLED, results.get(502).getOutcome());
+        assertEquals(Outcome.COURSE_FULL, results.get(503).getOutcome());
+        assertEquals(Outcome.ALREADY_ENROLLED, results.get(504).getOutcome());
+        assertEquals(Outcome.STUDENT_NOT_FOUND, results.get(505).getOutcome());
+        assertEquals(Outcome.COURSE_NOT_FOUND, results.get(506).getOutcome());
+        assertEquals(Outcome.INVALID, results.get(507).getOutcome());
+
+        assertEquals(500, enrollments.countByCourseId(large.getId()));
+        assertEquals(3, enrollments.countByCourseId(small.getId()));
+        assertEquals(500, courses.findSeatsTaken(large.getId()).orElseThrow());
+        assertEquals(3, courses.findSeatsTaken(small.getId()).orElseThrow());
+    }
+}
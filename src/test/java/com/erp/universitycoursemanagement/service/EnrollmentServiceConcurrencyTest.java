@@ -0,0 +1,123 @@
+package com.erp.universitycoursemanagement.service;
+
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Enrollment;
+import com.erp.universitycoursemanagement.model.Grade;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.model.StudentGpa;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.EnrollmentRepository;
+import com.erp.universitycoursemanagement.repository.StudentGpaRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class EnrollmentServiceConcurrencyTest {
+
+    private static final int STUDENTS = 3000;
+    private static final int CAPACITY = 120;
+    private static final int THREADS = 32;
+
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired StudentRepository students;
+    @Autowired CourseRepository courses;
+    @Autowired EnrollmentRepository enrollments;
+    @Autowired StudentGpaRepository gpas;
+
+    @Test
+    void concurrentEnrollsNeverOverBook() throws Exception {
+        Course course = courses.save(Course.builder().code("STRESS101").title("Registration Day").capacity(CAPACITY).build());
+
+        List<Student> batch = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            batch.add(Student.builder().indexNumber("STR" + i).firstName("First" + i).lastName("Last" + i)
+                    .email("stress" + i + "@uni.test").build());
+        }
+        List<Long> ids = students.saveAll(batch).stream().map(Student::getId).toList();
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        for (Long studentId : ids) {
+            pool.submit(() -> {
+                start.await();
+                try {
+                    enrollmentService.enroll(studentId, course.getId());
+                    accepted.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    full.incrementAndGet();
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        long t0 = System.nanoTime();
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(2, TimeUnit.MINUTES));
+        double seconds = (System.nanoTime() - t0) / 1e9;
+
+        long persisted = enrollments.countByCourseId(course.getId());
+        int counter = courses.findSeatsTaken(course.getId()).orElseThrow();
+        System.out.printf("enroll stress: %d attempts on %d threads in %.2fs (%.0f/s), accepted=%d rejected=%d errors=%d, over-enrolled=%d%n",
+                STUDENTS, THREADS, seconds, STUDENTS / seconds, accepted.get(), full.get(), failed.get(),
+                Math.max(0, persisted - CAPACITY));
+
+        assertEquals(0, failed.get());
+        assertEquals(CAPACITY, accepted.get());
+        assertEquals(CAPACITY, persisted);
+        assertEquals(CAPACITY, counter);
+    }
+
+    @Test
+    void concurrentGradesOfOneEnrollmentCountOnce() throws Exception {
+        Course course = courses.save(Course.builder().code("REGRADE1").title("Regrade Race").credits(3).build());
+        List<Enrollment> graded = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Student s = students.save(Student.builder().indexNumber("RGR" + i).firstName("First" + i).lastName("Last" + i)
+                    .email("regrade" + i + "@uni.test").build());
+            graded.add(enrollmentService.enroll(s.getId(), course.getId()));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (Enrollment e : graded) {
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?> a = pool.submit(() -> { start.await(); return enrollmentService.grade(e.getId(), Grade.A); });
+                Future<?> b = pool.submit(() -> { start.await(); return enrollmentService.grade(e.getId(), Grade.C); });
+                start.countDown();
+                a.get(10, TimeUnit.SECONDS);
+                b.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        // whichever grade won, the aggregate holds exactly that one grade
+        for (Enrollment e : graded) {
+            Grade last = enrollments.findById(e.getId()).orElseThrow().getGrade();
+            StudentGpa gpa = gpas.findById(e.getStudent().getId()).orElseThrow();
+            assertEquals(3, gpa.getGradedCredits());
+            assertEquals(last.getPoints(), gpa.gpa(), 1e-9);
+        }
+    }
+}
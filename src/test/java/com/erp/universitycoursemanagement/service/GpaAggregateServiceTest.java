@@ -0,0 +1,111 @@
+package com.erp.universitycoursemanagement.service;
+
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Enrollment;
+import com.erp.universitycoursemanagement.model.Grade;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.model.StudentGpa;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.StudentGpaRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class GpaAggregateServiceTest {
+
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired CourseService courseService;
+    @Autowired GpaAggregateService gpaAggregate;
+    @Autowired StudentRepository students;
+    @Autowired CourseRepository courses;
+    @Autowired StudentGpaRepository gpas;
+
+    @Test
+    void aggregateFollowsGradesDropsAndCreditChanges() {
+        Student s = students.save(Student.builder().indexNumber("GPA1").firstName("Ada").lastName("Lovelace")
+                .email("gpa1@uni.test").build());
+        Course math = courses.save(Course.builder().code("GPA-M").title("Math").credits(4).build());
+        Course art = courses.save(Course.builder().code("GPA-A").title("Art").credits(2).build());
+        Course pe = courses.save(Course.builder().code("GPA-P").title("PE").credits(1).build());
+
+        Enrollment m = enrollmentService.enroll(s.getId(), math.getId());
+        Enrollment a = enrollmentService.enroll(s.getId(), art.getId());
+        Enrollment p = enrollmentService.enroll(s.getId(), pe.getId());
+        assertEquals(0.0, enrollmentService.gpaForStudent(s.getId()));
+
+        enrollmentService.grade(m.getId(), Grade.B);
+        enrollmentService.grade(a.getId(), Grade.A_MINUS);
+        enrollmentService.grade(p.getId(), Grade.E);
+        assertEquals((4 * 3.0 + 2 * 3.7) / 7, enrollmentService.gpaForStudent(s.getId()), 1e-9);
+
+        enrollmentService.grade(m.getId(), Grade.A);
+        enrollmentService.drop(p.getId());
+        assertEquals((4 * 4.0 + 2 * 3.7) / 6, enrollmentService.gpaForStudent(s.getId()), 1e-9);
+
+        Course update = Course.builder().code("GPA-A").title("Art").credits(5).capacity(art.getCapacity()).build();
+        courseService.update(art.getId(), update);
+        assertEquals((4 * 4.0 + 5 * 3.7) / 9, enrollmentService.gpaForStudent(s.getId()), 1e-9);
+
+        assertEquals(0, gpaAggregate.rebuild());
+    }
+
+    @Test
+    void rebuildRepairsDrift() {
+        Student s = students.save(Student.builder().indexNumber("GPA2").firstName("Alan").lastName("Turing")
+                .email("gpa2@uni.test").build());
+        Course c = courses.save(Course.builder().code("GPA-D").title("Drift").credits(3).build());
+        enrollmentService.grade(enrollmentService.enroll(s.getId(), c.getId()).getId(), Grade.C);
+
+        gpas.save(new StudentGpa(s.getId(), 99, 12345));
+
+        assertEquals(1, gpaAggregate.rebuild());
+        assertEquals(2.0, enrollmentService.gpaForStudent(s.getId()), 1e-9);
+        assertEquals(0, gpaAggregate.rebuild());
+    }
+
+    @Test
+    void concurrentFirstGradesOfAStudentAllCount() throws Exception {
+        Student s = students.save(Student.builder().indexNumber("GPA3").firstName("Grace").lastName("Hopper")
+                .email("gpa3@uni.test").build());
+        int threads = 8;
+        List<Long> enrollments = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Course c = courses.save(Course.builder().code("GPA-C" + i).title("Concurrent " + i).credits(2).build());
+            enrollments.add(enrollmentService.enroll(s.getId(), c.getId()).getId());
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (Long id : enrollments)
+                done.add(pool.submit(() -> {
+                    start.await();
+                    enrollmentService.grade(id, Grade.B);
+                    return null;
+                }));
+            start.countDown();
+            for (Future<?> f : done) f.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        StudentGpa g = gpas.findById(s.getId()).orElseThrow();
+        assertEquals(2 * threads, g.getGradedCredits());
+        assertEquals(3.0, g.gpa(), 1e-9);
+        assertEquals(0, gpaAggregate.rebuild());
+    }
+}
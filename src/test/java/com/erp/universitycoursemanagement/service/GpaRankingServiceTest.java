@@ -0,0 +1,128 @@
+package com.erp.universitycoursemanagement.service;
+
+import com.erp.universitycoursemanagement.dto.GpaRankEntry;
+import com.erp.universitycoursemanagement.dto.GpaRankReport;
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Enrollment;
+import com.erp.universitycoursemanagement.model.Grade;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.model.StudentGpa;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.StudentGpaRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static com.erp.universitycoursemanagement.SqlStatementAssertions.assertAtMostStatements;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class GpaRankingServiceTest {
+
+    @Autowired GpaRankingService ranking;
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired CourseService courseService;
+    @Autowired StudentRepository students;
+    @Autowired CourseRepository courses;
+    @Autowired StudentGpaRepository gpas;
+
+    @Test
+    void ranksFollowGradeAndCreditChanges() {
+        Course heavy = courses.save(Course.builder().code("RANK-H").title("Heavy").credits(6).build());
+        Course light = courses.save(Course.builder().code("RANK-L").title("Light").credits(1).build());
+        Student ada = student("RANK1");
+        Student bob = student("RANK2");
+        Enrollment adaHeavy = enrollmentService.enroll(ada.getId(), heavy.getId());
+        Enrollment adaLight = enrollmentService.enroll(ada.getId(), light.getId());
+        Enrollment bobHeavy = enrollmentService.enroll(bob.getId(), heavy.getId());
+        enrollmentService.grade(adaHeavy.getId(), Grade.B);
+        enrollmentService.grade(adaLight.getId(), Grade.A);
+        enrollmentService.grade(bobHeavy.getId(), Grade.C);
+
+        GpaRankEntry a = ranking.forStudent(ada.getId());
+        GpaRankEntry b = ranking.forStudent(bob.getId());
+        assertEquals((6 * 3.0 + 4.0) / 7, a.getGpa(), 1e-9);
+        assertEquals(7, a.getGradedCredits());
+        assertEquals("RANK1", a.getIndexNumber());
+        assertTrue(a.getRank() < b.getRank());
+        assertTrue(a.getPercentile() > b.getPercentile());
+        assertBruteForceRank(a);
+        assertBruteForceRank(b);
+
+        // no grade changed: served from memory
+        assertAtMostStatements(1, () -> ranking.forStudent(ada.getId()));
+
+        enrollmentService.grade(bobHeavy.getId(), Grade.A_PLUS);
+        GpaRankEntry promoted = ranking.forStudent(bob.getId());
+        assertEquals(4.0, promoted.getGpa(), 1e-9);
+        assertTrue(promoted.getRank() < ranking.forStudent(ada.getId()).getRank());
+        assertBruteForceRank(promoted);
+
+        // a credit change reweights every student of the course
+        courseService.update(light.getId(), Course.builder().code("RANK-L").title("Light").credits(6)
+                .capacity(light.getCapacity()).build());
+        assertEquals((6 * 3.0 + 6 * 4.0) / 12, ranking.forStudent(ada.getId()).getGpa(), 1e-9);
+
+        enrollmentService.drop(adaHeavy.getId());
+        enrollmentService.drop(adaLight.getId());
+        assertThrows(IllegalStateException.class, () -> ranking.forStudent(ada.getId()));
+        assertThrows(IllegalArgumentException.class, () -> ranking.forStudent(-1L));
+    }
+
+    @Test
+    void topIsOrderedAndBounded() {
+        Course c = courses.save(Course.builder().code("RANK-T").title("Top").credits(3).build());
+        Student best = student("RANK3");
+        enrollmentService.grade(enrollmentService.enroll(best.getId(), c.getId()).getId(), Grade.A_PLUS);
+
+        GpaRankReport report = ranking.top(5);
+        List<GpaRankEntry> top = report.getTop();
+        assertTrue(top.size() <= 5 && !top.isEmpty());
+        assertEquals(1, top.get(0).getRank());
+        assertEquals(4.0, top.get(0).getGpa(), 1e-9);
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).getGpa() >= top.get(i).getGpa());
+            assertTrue(top.get(i - 1).getRank() <= top.get(i).getRank());
+        }
+        assertEquals(gpas.findAll().stream().filter(g -> g.getGradedCredits() > 0).count(), report.getRankedStudents());
+        assertEquals(List.of("p25", "p50", "p75", "p90", "p99"), List.copyOf(report.getPercentiles().keySet()));
+        assertTrue(report.getPercentiles().get("p25") <= report.getPercentiles().get("p99"));
+        assertEquals(1, ranking.top(0).getTop().size());
+    }
+
+    @Test
+    void changesFromOtherInstancesAppearOnceTheTotalsAreTooOld() {
+        Student s = student("RANK4");
+        GpaRankingService current = new GpaRankingService(gpas, students, 0);
+        GpaRankingService longLived = new GpaRankingService(gpas, students, 3600);
+        assertThrows(IllegalStateException.class, () -> current.forStudent(s.getId()));
+        assertThrows(IllegalStateException.class, () -> longLived.forStudent(s.getId()));
+
+        // written by "another instance": no after-commit callback reaches these rankings
+        gpas.save(new StudentGpa(s.getId(), 3, 120));
+        try {
+            assertEquals(4.0, current.forStudent(s.getId()).getGpa(), 1e-9);
+            assertThrows(IllegalStateException.class, () -> longLived.forStudent(s.getId()));
+        } finally {
+            gpas.deleteById(s.getId());
+        }
+    }
+
+    private void assertBruteForceRank(GpaRankEntry e) {
+        long better = gpas.findAll().stream().filter(g -> g.getGradedCredits() > 0)
+                .filter(g -> bucket(g) > (long) Math.floor(e.getGpa() * 1000 + 1e-9)).count();
+        assertEquals(better + 1, e.getRank());
+    }
+
+    private static long bucket(StudentGpa g) {
+        return g.getWeightedPointsX10() * 100 / g.getGradedCredits();
+    }
+
+    private Student student(String index) {
+        return students.save(Student.builder().indexNumber(index).firstName("R").lastName("Rank")
+                .email(index.toLowerCase() + "@uni.test").build());
+    }
+}
@@ -0,0 +1,92 @@
+package com.erp.universitycoursemanagement.service;
+
+import com.erp.universitycoursemanagement.dto.GradeDistribution;
+import com.erp.universitycoursemanagement.model.Course;
+import com.erp.universitycoursemanagement.model.Enrollment;
+import com.erp.universitycoursemanagement.model.Grade;
+import com.erp.universitycoursemanagement.model.Student;
+import com.erp.universitycoursemanagement.repository.CourseRepository;
+import com.erp.universitycoursemanagement.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.erp.universitycoursemanagement.SqlStatementAssertions.assertAtMostStatements;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class GradeDistributionServiceTest {
+
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired CourseService courseService;
+    @Autowired StudentRepository students;
+    @Autowired CourseRepository courses;
+
+    @Test
+    void histogramIsCachedUntilTheCourseIsRegraded() {
+        Course c = courses.save(Course.builder().code("GD-1").title("Distribution").build());
+        List<Enrollment> roster = enroll(c, 4, "GD1");
+        enrollmentService.grade(roster.get(0).getId(), Grade.A);
+        enrollmentService.grade(roster.get(1).getId(), Grade.A);
+        enrollmentService.grade(roster.get(2).getId(), Grade.C_MINUS);
+
+        GradeDistribution d = courseService.gradeDistribution(c.getId());
+        assertEquals(2, d.count(Grade.A));
+        assertEquals(1, d.count(Grade.C_MINUS));
+        assertEquals(3, d.getGraded());
+        assertEquals(1, d.getUngraded());
+        assertEquals((2 * 4.0 + 1.7) / 3, d.getMeanPoints(), 1e-9);
+        assertEquals(Grade.values().length, d.getCounts().size());
+
+        assertAtMostStatements(0, () -> assertSame(d, courseService.gradeDistribution(c.getId())));
+
+        enrollmentService.grade(roster.get(3).getId(), Grade.B);
+        GradeDistribution regraded = courseService.gradeDistribution(c.getId());
+        assertEquals(1, regraded.count(Grade.B));
+        assertEquals(0, regraded.getUngraded());
+
+        enrollmentService.drop(roster.get(0).getId());
+        assertEquals(1, courseService.gradeDistribution(c.getId()).count(Grade.A));
+        assertThrows(IllegalArgumentException.class, () -> courseService.gradeDistribution(-1L));
+    }
+
+    @Test
+    void allCoursesUseOneAggregateAndTheCache() {
+        Course graded = courses.save(Course.builder().code("GD-2").title("Graded").build());
+        Course empty = courses.save(Course.builder().code("GD-3").title("Empty").build());
+        List<Enrollment> roster = enroll(graded, 3, "GD2");
+        for (Enrollment e : roster) enrollmentService.grade(e.getId(), Grade.B_PLUS);
+
+        // catalog ids + one GROUP BY for the uncached courses, however many there are
+        List<GradeDistribution> all = new ArrayList<>();
+        assertAtMostStatements(2, () -> all.addAll(courseService.gradeDistributions()));
+        assertEquals(courses.count(), all.size());
+        assertEquals(3, find(all, graded).count(Grade.B_PLUS));
+        assertEquals(0, find(all, empty).getEnrolled());
+
+        assertAtMostStatements(1, () -> courseService.gradeDistributions());
+        assertSame(find(all, graded), courseService.gradeDistribution(graded.getId()));
+
+        enrollmentService.grade(roster.get(0).getId(), Grade.A_MINUS);
+        GradeDistribution regraded = find(courseService.gradeDistributions(), graded);
+        assertEquals(2, regraded.count(Grade.B_PLUS));
+        assertEquals(1, regraded.count(Grade.A_MINUS));
+    }
+
+    private List<Enrollment> enroll(Course c, int n, String prefix) {
+        List<Enrollment> roster = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Student s = students.save(Student.builder().indexNumber(prefix + i).firstName("G").lastName("Dist" + i)
+                    .email(prefix.toLowerCase() + i + "@uni.test").build());
+            roster.add(enrollmentService.enroll(s.getId(), c.getId()));
+        }
+        return roster;
+    }
+
+    private static GradeDistribution find(List<GradeDistribution> all, Course c) {
+        return all.stream().filter(d -> d.getCourseId().equals(c.getId())).findFirst().orElseThrow();
+    }
+}
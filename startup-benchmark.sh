@@ -0,0 +1,47 @@
+#!/bin/sh
+# Startup time of the packaged application: plain jar vs. extracted jar with a CDS archive vs. CDS + Spring AOT.
+#
+#   ./mvnw -Pfast-start -DskipTests package && ./startup-benchmark.sh [runs]
+#
+# Each run starts the application context and exits as soon as it is refreshed (spring.context.exit=onRefresh),
+# so no database is needed and the numbers are comparable between machines and commits. Migrations are skipped
+# because they would connect to the database; Hibernate does not connect at boot. The median of the runs is
+# printed per mode, in milliseconds.
+
+set -e
+
+RUNS=${1:-5}
+JAR=target/UniversityCourseManagement-0.0.1-SNAPSHOT.jar
+WORK=target/startup-benchmark
+APP=$(basename "$JAR")
+OPTS="-Dspring.context.exit=onRefresh -Dapp.schema.migrateOnStartup=false -Dlogging.level.root=WARN"
+
+if [ ! -f "$JAR" ]; then
+    echo "Build first: ./mvnw -Pfast-start -DskipTests package" >&2
+    exit 1
+fi
+
+rm -rf "$WORK"
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK" > /dev/null
+# training run: records the classes loaded during startup into the archive
+(cd "$WORK" && java -XX:ArchiveClassesAtExit=app.jsa $OPTS -jar "$APP" > /dev/null 2>&1)
+
+measure() {
+    label=$1
+    shift
+    times=""
+    i=0
+    while [ $i -lt "$RUNS" ]; do
+        start=$(date +%s%N)
+        "$@" > /dev/null 2>&1
+        end=$(date +%s%N)
+        times="$times $(( (end - start) / 1000000 ))"
+        i=$((i + 1))
+    done
+    median=$(echo $times | tr ' ' '\n' | sort -n | awk '{a[NR]=$1} END {print a[int((NR + 1) / 2)]}')
+    printf '%-22s median %6d ms   runs:%s\n' "$label" "$median" "$times"
+}
+
+measure "jar" java $OPTS -jar "$JAR"
+(cd "$WORK" && measure "extracted + CDS" java -XX:SharedArchiveFile=app.jsa $OPTS -jar "$APP")
+(cd "$WORK" && measure "extracted + CDS + AOT" java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true $OPTS -jar "$APP")